@@ -0,0 +1,66 @@
+package com.badlogic.drop.sim;
+
+import com.badlogic.gdx.physics.box2d.BodyDef;
+
+/**
+ * Everything that makes two bodies interchangeable: body type, one box or circle fixture with its material
+ * and collision bits, and damping. {@link PhysicsWorld} hands a parked body to anyone asking for an equal spec.
+ */
+final class BodySpec {
+    final BodyDef.BodyType type;
+    final boolean circle;
+    final float halfWidth, halfHeight; // The radius for a circle
+    final float density, friction, restitution;
+    final float damping; // Linear and angular
+    final short category, mask;
+
+    private BodySpec(BodyDef.BodyType type, boolean circle, float halfWidth, float halfHeight, float density,
+                     float friction, float restitution, float damping, short category, short mask) {
+        this.type = type;
+        this.circle = circle;
+        this.halfWidth = halfWidth;
+        this.halfHeight = halfHeight;
+        this.density = density;
+        this.friction = friction;
+        this.restitution = restitution;
+        this.damping = damping;
+        this.category = category;
+        this.mask = mask;
+    }
+
+    static BodySpec box(BodyDef.BodyType type, float halfWidth, float halfHeight, float density, float friction,
+                        float restitution, short category, short mask) {
+        return new BodySpec(type, false, halfWidth, halfHeight, density, friction, restitution, 0f, category, mask);
+    }
+
+    static BodySpec circle(BodyDef.BodyType type, float radius, float density, float friction, float restitution,
+                           float damping, short category, short mask) {
+        return new BodySpec(type, true, radius, radius, density, friction, restitution, damping, category, mask);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        if (!(other instanceof BodySpec)) return false;
+        BodySpec spec = (BodySpec) other;
+        return type == spec.type && circle == spec.circle
+            && halfWidth == spec.halfWidth && halfHeight == spec.halfHeight
+            && density == spec.density && friction == spec.friction && restitution == spec.restitution
+            && damping == spec.damping && category == spec.category && mask == spec.mask;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = type.hashCode();
+        hash = 31 * hash + (circle ? 1 : 0);
+        hash = 31 * hash + Float.floatToIntBits(halfWidth);
+        hash = 31 * hash + Float.floatToIntBits(halfHeight);
+        hash = 31 * hash + Float.floatToIntBits(density);
+        hash = 31 * hash + Float.floatToIntBits(friction);
+        hash = 31 * hash + Float.floatToIntBits(restitution);
+        hash = 31 * hash + Float.floatToIntBits(damping);
+        hash = 31 * hash + category;
+        hash = 31 * hash + mask;
+        return hash;
+    }
+}
@@ -0,0 +1,31 @@
+package com.badlogic.drop.sim;
+
+import com.badlogic.gdx.physics.box2d.Filter;
+
+/**
+ * Box2D category and mask bits for each kind of body. Box2D never builds a contact for a pair whose masks
+ * exclude each other, so that pair also never costs a contact callback into Java.
+ */
+public final class CollisionBits {
+    public static final short BIRD = 0x0001;
+    public static final short PIG = 0x0002;
+    public static final short BLOCK = 0x0004;
+    public static final short GROUND = 0x0008;
+    public static final short BOUNDARY = 0x0010;
+
+    // Birds pass through each other: the ones waiting by the slingshot overlap, and a thrown bird flies over them
+    public static final short BIRD_MASK = PIG | BLOCK | GROUND | BOUNDARY;
+    public static final short PIG_MASK = BIRD | PIG | BLOCK | GROUND | BOUNDARY;
+    public static final short BLOCK_MASK = BIRD | PIG | BLOCK | GROUND | BOUNDARY;
+    // Static bodies never touch each other anyway; listing only moving kinds keeps that explicit
+    public static final short GROUND_MASK = BIRD | PIG | BLOCK;
+    public static final short BOUNDARY_MASK = BIRD | PIG | BLOCK;
+
+    private CollisionBits() {
+    }
+
+    static void set(Filter filter, short category, short mask) {
+        filter.categoryBits = category;
+        filter.maskBits = mask;
+    }
+}
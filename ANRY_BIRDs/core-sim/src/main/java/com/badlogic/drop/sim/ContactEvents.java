@@ -0,0 +1,69 @@
+package com.badlogic.drop.sim;
+
+import java.util.Arrays;
+
+/**
+ * Contacts that began during a world step, kept as pairs of entity handles in preallocated arrays and
+ * applied once the step is over. Recording only looks up the pair's rule, so nothing is allocated or
+ * mutated inside the Box2D callback.
+ */
+final class ContactEvents {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final EntityStore store;
+    private int[] firsts = new int[INITIAL_CAPACITY];
+    private int[] seconds = new int[INITIAL_CAPACITY];
+    private DamageRules.Rule[] rules = new DamageRules.Rule[INITIAL_CAPACITY];
+    private int size = 0;
+
+    ContactEvents(EntityStore store) {
+        this.store = store;
+    }
+
+    // Called from beginContact with the handles both bodies carry; pairs with no rule are dropped right away
+    void record(int handleA, int handleB) {
+        int typeA = store.types[store.rowOf(EntityStore.slotOf(handleA))].ordinal();
+        int typeB = store.types[store.rowOf(EntityStore.slotOf(handleB))].ordinal();
+        DamageRules.Rule rule = DamageRules.ruleFor(typeA, typeB);
+        if (rule == null) return;
+
+        if (DamageRules.isSwapped(typeA, typeB)) {
+            int swap = handleA;
+            handleA = handleB;
+            handleB = swap;
+        }
+        if (size == firsts.length) grow();
+
+        firsts[size] = handleA;
+        seconds[size] = handleB;
+        rules[size] = rule;
+        size++;
+    }
+
+    int size() {
+        return size;
+    }
+
+    // Apply every recorded contact in the order Box2D reported them, then forget them. Pairs whose entity
+    // was removed in the meantime are skipped.
+    void dispatch() {
+        for (int i = 0; i < size; i++) {
+            int first = store.liveRow(firsts[i]);
+            int second = store.liveRow(seconds[i]);
+            if (first >= 0 && second >= 0) rules[i].apply(store, first, second);
+        }
+        size = 0;
+    }
+
+    void clear() {
+        size = 0;
+    }
+
+    // Only happens the first time a level sees this many contacts in one step
+    private void grow() {
+        int capacity = firsts.length * 2;
+        firsts = Arrays.copyOf(firsts, capacity);
+        seconds = Arrays.copyOf(seconds, capacity);
+        rules = Arrays.copyOf(rules, capacity);
+    }
+}
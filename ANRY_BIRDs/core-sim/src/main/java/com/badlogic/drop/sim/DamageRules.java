@@ -0,0 +1,58 @@
+package com.badlogic.drop.sim;
+
+/**
+ * How entities get hurt, shared by every level. Damage comes from the normal impulses Box2D reports in
+ * postSolve (see {@link ImpactAccumulator}). Contacts that need a reaction of their own, like a bird
+ * noticing it has hit something, go through a table indexed by both entities' {@link EntityType} and
+ * always see the pair in the order they were registered.
+ */
+public final class DamageRules {
+    public static final float PIG_IMPULSE_THRESHOLD = 0.05f; // Ns; pigs are soft
+    public static final float PIG_DAMAGE_PER_IMPULSE = 40f;
+
+    // Impulses below every threshold can't hurt anything, so postSolve drops them before looking at the bodies
+    static final float MIN_DAMAGING_IMPULSE = Math.min(PIG_IMPULSE_THRESHOLD,
+        Math.min(Material.WOOD.getImpulseThreshold(), Material.GLASS.getImpulseThreshold()));
+
+    // Applied to the store rows of both entities, in the order the pair was registered
+    interface Rule {
+        void apply(EntityStore store, int first, int second);
+    }
+
+    private static final Rule[][] RULES = new Rule[EntityType.COUNT][EntityType.COUNT];
+    private static final boolean[][] SWAPPED = new boolean[EntityType.COUNT][EntityType.COUNT];
+
+    static {
+        register(EntityType.PIG, EntityType.BIRD, (store, pig, bird) -> store.flags[bird] |= EntityStore.COLLIDED);
+        register(EntityType.BLOCK, EntityType.BIRD, (store, block, bird) -> store.flags[bird] |= EntityStore.COLLIDED);
+    }
+
+    private DamageRules() {
+    }
+
+    private static void register(EntityType first, EntityType second, Rule rule) {
+        int a = first.ordinal(), b = second.ordinal();
+        RULES[a][b] = rule;
+        RULES[b][a] = rule;
+        SWAPPED[b][a] = a != b;
+    }
+
+    static Rule ruleFor(int typeA, int typeB) {
+        return RULES[typeA][typeB];
+    }
+
+    // Whether a pair seen as (typeA, typeB) has to be flipped to match the rule's order
+    static boolean isSwapped(int typeA, int typeB) {
+        return SWAPPED[typeA][typeB];
+    }
+
+    // Turn the strongest impulse an entity took in a step into damage. Every entity carries its own threshold
+    // and damage per Ns in the store (the material's for blocks, the pig constants for pigs, and an infinite
+    // threshold for birds, which don't break), so this is the same arithmetic for every row.
+    static void applyImpact(EntityStore store, int row, float impulse) {
+        float threshold = store.impulseThresholds[row];
+        if (impulse > threshold) {
+            store.damage(row, (int) ((impulse - threshold) * store.damagePerImpulse[row]));
+        }
+    }
+}
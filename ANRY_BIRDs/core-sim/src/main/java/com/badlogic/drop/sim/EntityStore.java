@@ -0,0 +1,394 @@
+package com.badlogic.drop.sim;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import java.util.Arrays;
+
+/**
+ * Every bird, pig and block of a level as rows of packed arrays: cached transform, health, timer and flags.
+ * Live entities fill rows [0, liveCount), so the per-step passes are plain loops without gaps; removing an
+ * entity swaps the last live row into its place. Rows move, slots don't: an entity keeps its slot for the
+ * whole level, and per-entity arrays elsewhere are indexed by it. Bodies carry a handle of slot and
+ * generation as user data; the generation changes on every removal, so a handle kept past one is stale.
+ */
+public final class EntityStore {
+    static final int STATE_SIZE = 10; // Floats per entity in a snapshot: transform, velocities, removed, health, timer, flags
+
+    private static final int SLOT_BITS = 16;
+    private static final int SLOT_MASK = (1 << SLOT_BITS) - 1;
+    private static final int GENERATION_MASK = 0x7fff; // Keeps handles positive
+
+    // Flag bits
+    static final int AWAKE = 1; // Box2D had the body awake after the last step
+    static final int BROKEN = 1 << 1; // Health ran out: a dead pig or a destroyed block
+    static final int LAUNCHED = 1 << 2; // Bird has left the slingshot
+    static final int COLLIDED = 1 << 3; // Bird has hit something or come to a stop
+    static final int BULLET = 1 << 4; // Mirrors body.isBullet() so we only cross into Box2D when it changes
+    static final int KINEMATIC = 1 << 5; // Bird is held in the slingshot
+
+    // Per row
+    final EntityType[] types;
+    final Body[] bodies;
+    final int[] slots;
+    final float[] x, y, angle; // Transform after the last physics step
+    final float[] previousX, previousY, previousAngle; // Transform before the last physics step
+    final int[] versions; // Bumped every time the cached transform changes
+    final int[] health;
+    final float[] timers; // Removal delays
+    final int[] flags;
+    final float[] impulseThresholds, damagePerImpulse; // Copied from DamageRules when the entity is added
+
+    // Per slot
+    private final int[] rows;
+    private final int[] generations;
+
+    private int size = 0, liveCount = 0;
+    private final int[] liveByType = new int[EntityType.COUNT];
+    final WorldCommands commands; // Body changes wait here until the simulation flushes them
+
+    EntityStore(int capacity, WorldCommands commands) {
+        this.commands = commands;
+        types = new EntityType[capacity];
+        bodies = new Body[capacity];
+        slots = new int[capacity];
+        x = new float[capacity];
+        y = new float[capacity];
+        angle = new float[capacity];
+        previousX = new float[capacity];
+        previousY = new float[capacity];
+        previousAngle = new float[capacity];
+        versions = new int[capacity];
+        health = new int[capacity];
+        timers = new float[capacity];
+        flags = new int[capacity];
+        impulseThresholds = new float[capacity];
+        damagePerImpulse = new float[capacity];
+        rows = new int[capacity];
+        generations = new int[capacity];
+    }
+
+    // Forget every entity; the world they lived in is gone
+    void clear() {
+        Arrays.fill(bodies, 0, size, null);
+        size = liveCount = 0;
+        Arrays.fill(liveByType, 0);
+    }
+
+    // Adds a live entity and returns its slot
+    int add(EntityType type, Body body, int initialHealth, float impulseThreshold, float damage) {
+        int slot = size++;
+        int row = slot;
+        rows[slot] = row;
+        generations[slot] = 0;
+        slots[row] = slot;
+        types[row] = type;
+        bodies[row] = body;
+        health[row] = initialHealth;
+        timers[row] = 0f;
+        flags[row] = 0;
+        versions[row] = 0;
+        impulseThresholds[row] = impulseThreshold;
+        damagePerImpulse[row] = damage;
+        if (liveCount < row) swapRows(row, liveCount); // Keep live rows packed if anything was removed before
+        liveCount++;
+        liveByType[type.ordinal()]++;
+        body.setUserData(handle(slot));
+        snap(slot);
+        return slot;
+    }
+
+    // Take the entity out of the simulation. Its body stays in the world, deactivated at the next flush,
+    // so a restore can bring it back
+    void remove(int slot) {
+        int row = rows[slot];
+        if (row >= liveCount) return;
+        commands.deactivate(bodies[row]);
+        moveOut(slot);
+    }
+
+    private void moveOut(int slot) {
+        int row = rows[slot];
+        swapRows(row, --liveCount);
+        generations[slot] = (generations[slot] + 1) & GENERATION_MASK;
+        liveByType[types[liveCount].ordinal()]--;
+    }
+
+    private void moveIn(int slot) {
+        swapRows(rows[slot], liveCount++);
+        liveByType[types[rows[slot]].ordinal()]++;
+        bodies[rows[slot]].setUserData(handle(slot));
+    }
+
+    private void swapRows(int a, int b) {
+        if (a == b) return;
+        swap(types, a, b);
+        swap(bodies, a, b);
+        swap(slots, a, b);
+        swap(x, a, b);
+        swap(y, a, b);
+        swap(angle, a, b);
+        swap(previousX, a, b);
+        swap(previousY, a, b);
+        swap(previousAngle, a, b);
+        swap(versions, a, b);
+        swap(health, a, b);
+        swap(timers, a, b);
+        swap(flags, a, b);
+        swap(impulseThresholds, a, b);
+        swap(damagePerImpulse, a, b);
+        rows[slots[a]] = a;
+        rows[slots[b]] = b;
+    }
+
+    private static void swap(float[] array, int a, int b) {
+        float swap = array[a];
+        array[a] = array[b];
+        array[b] = swap;
+    }
+
+    private static void swap(int[] array, int a, int b) {
+        int swap = array[a];
+        array[a] = array[b];
+        array[b] = swap;
+    }
+
+    private static <T> void swap(T[] array, int a, int b) {
+        T swap = array[a];
+        array[a] = array[b];
+        array[b] = swap;
+    }
+
+    int handle(int slot) {
+        return generations[slot] << SLOT_BITS | slot;
+    }
+
+    static int slotOf(int handle) {
+        return handle & SLOT_MASK;
+    }
+
+    // Row of a live entity, or -1 if it has been removed since the handle was taken
+    int liveRow(int handle) {
+        int slot = handle & SLOT_MASK;
+        if (handle >>> SLOT_BITS != generations[slot]) return -1;
+        int row = rows[slot];
+        return row < liveCount ? row : -1;
+    }
+
+    int rowOf(int slot) {
+        return rows[slot];
+    }
+
+    boolean isLive(int slot) {
+        return rows[slot] < liveCount;
+    }
+
+    // Entities the level started with, removed or not
+    public int size() {
+        return size;
+    }
+
+    public int getLiveCount() {
+        return liveCount;
+    }
+
+    public int getLiveCount(EntityType type) {
+        return liveByType[type.ordinal()];
+    }
+
+    public int getSlot(int row) {
+        return slots[row];
+    }
+
+    public EntityType getType(int row) {
+        return types[row];
+    }
+
+    public boolean isAwake(int row) {
+        return (flags[row] & AWAKE) != 0;
+    }
+
+    public int getHealth(int row) {
+        return health[row];
+    }
+
+    // Impulse an impact has to exceed before it does damage (Ns)
+    public float getImpulseThreshold(int row) {
+        return impulseThresholds[row];
+    }
+
+    // True while the last step moved the entity, i.e. interpolation still changes where it is drawn
+    public boolean isMoving(int row) {
+        return previousX[row] != x[row] || previousY[row] != y[row] || previousAngle[row] != angle[row];
+    }
+
+    public int getTransformVersion(int row) {
+        return versions[row];
+    }
+
+    // Blend between the previous and current physics state (alpha 0..1)
+    public float getInterpolatedX(int row, float alpha) {
+        return previousX[row] + (x[row] - previousX[row]) * alpha;
+    }
+
+    public float getInterpolatedY(int row, float alpha) {
+        return previousY[row] + (y[row] - previousY[row]) * alpha;
+    }
+
+    public float getInterpolatedAngle(int row, float alpha) {
+        return previousAngle[row] + (angle[row] - previousAngle[row]) * alpha;
+    }
+
+    // Before a step: the current transform becomes the one to blend from
+    void beginStep() {
+        for (int row = 0; row < liveCount; row++) {
+            if (isMoving(row)) {
+                previousX[row] = x[row];
+                previousY[row] = y[row];
+                previousAngle[row] = angle[row];
+                versions[row]++;
+            }
+        }
+    }
+
+    // After a step: a body that slept through it cannot have moved, so only read back awake bodies
+    // and the ones that just fell asleep. Returns how many transforms were read from Box2D.
+    int syncTransforms() {
+        int read = 0;
+        for (int row = 0; row < liveCount; row++) {
+            Body body = bodies[row];
+            boolean wasAwake = (flags[row] & AWAKE) != 0;
+            boolean awake = body.isAwake();
+            if (!awake && !wasAwake) continue;
+            flags[row] = awake ? flags[row] | AWAKE : flags[row] & ~AWAKE;
+
+            Vector2 position = body.getPosition();
+            float newX = position.x, newY = position.y, newAngle = body.getAngle();
+            if (newX != x[row] || newY != y[row] || newAngle != angle[row]) {
+                x[row] = newX;
+                y[row] = newY;
+                angle[row] = newAngle;
+                versions[row]++;
+            }
+            read++;
+        }
+        return read;
+    }
+
+    // Every live body asleep, or awake but moving slower than the given speeds (m/s and rad/s)
+    boolean isQuiet(float linearSpeed, float angularSpeed) {
+        for (int row = 0; row < liveCount; row++) {
+            if ((flags[row] & AWAKE) == 0) continue;
+            Body body = bodies[row];
+            if (body.getLinearVelocity().len2() >= linearSpeed * linearSpeed
+                || Math.abs(body.getAngularVelocity()) >= angularSpeed) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Take the body's transform as is, without blending from where it was (spawns and teleports)
+    void snap(int slot) {
+        int row = rows[slot];
+        Body body = bodies[row];
+        Vector2 position = body.getPosition();
+        x[row] = previousX[row] = position.x;
+        y[row] = previousY[row] = position.y;
+        angle[row] = previousAngle[row] = body.getAngle();
+        flags[row] |= AWAKE;
+        versions[row]++;
+    }
+
+    // Set the transform the body will get at the next flush, without blending from where it was
+    void place(int slot, float newX, float newY, float newAngle) {
+        int row = rows[slot];
+        commands.setTransform(bodies[row], newX, newY, newAngle);
+        x[row] = previousX[row] = newX;
+        y[row] = previousY[row] = newY;
+        angle[row] = previousAngle[row] = newAngle;
+        flags[row] |= AWAKE;
+        versions[row]++;
+    }
+
+    // Let Box2D move a sleeping body again, e.g. when what it rested on is gone
+    void wake(int slot) {
+        int row = rows[slot];
+        if (row < liveCount) commands.wake(bodies[row]);
+    }
+
+    void damage(int row, int amount) {
+        if ((flags[row] & BROKEN) == 0) {
+            health[row] -= amount;
+            if (health[row] <= 0) {
+                flags[row] |= BROKEN;
+            }
+        }
+    }
+
+    // Out of health no matter how much it had left
+    void breakRow(int row) {
+        if ((flags[row] & BROKEN) == 0) {
+            health[row] = 0;
+            flags[row] |= BROKEN;
+        }
+    }
+
+    // Writes the body and game state of one entity to out starting at offset, returns the offset after it
+    int write(int slot, float[] out, int offset) {
+        int row = rows[slot];
+        Body body = bodies[row];
+        Vector2 velocity = body.getLinearVelocity();
+        out[offset] = x[row];
+        out[offset + 1] = y[row];
+        out[offset + 2] = angle[row];
+        out[offset + 3] = velocity.x;
+        out[offset + 4] = velocity.y;
+        out[offset + 5] = body.getAngularVelocity();
+        out[offset + 6] = row < liveCount ? 0 : 1;
+        out[offset + 7] = health[row];
+        out[offset + 8] = timers[row];
+        out[offset + 9] = flags[row];
+        return offset + STATE_SIZE;
+    }
+
+    // Puts the body back the way write found it, without blending from where it is now. Restoring is itself
+    // a flush point, so this writes the body directly; anything still queued must be flushed first.
+    int read(int slot, float[] in, int offset) {
+        Body body = bodies[rows[slot]];
+        int oldFlags = flags[rows[slot]];
+        int newFlags = (int) in[offset + 9];
+
+        // Bullet and body type have to be right before the velocities go back in
+        if (((oldFlags ^ newFlags) & BULLET) != 0) {
+            body.setBullet((newFlags & BULLET) != 0);
+        }
+        if (((oldFlags ^ newFlags) & KINEMATIC) != 0) {
+            body.setType((newFlags & KINEMATIC) != 0 ? BodyDef.BodyType.KinematicBody : BodyDef.BodyType.DynamicBody);
+        }
+
+        boolean removed = in[offset + 6] != 0;
+        if (removed != !isLive(slot)) {
+            if (removed) {
+                moveOut(slot);
+            } else {
+                moveIn(slot);
+            }
+            body.setActive(!removed);
+        }
+
+        int row = rows[slot];
+        x[row] = previousX[row] = in[offset];
+        y[row] = previousY[row] = in[offset + 1];
+        angle[row] = previousAngle[row] = in[offset + 2];
+        health[row] = (int) in[offset + 7];
+        timers[row] = in[offset + 8];
+        flags[row] = newFlags;
+        body.setTransform(x[row], y[row], angle[row]);
+        body.setLinearVelocity(in[offset + 3], in[offset + 4]);
+        body.setAngularVelocity(in[offset + 5]);
+        body.setAwake((newFlags & AWAKE) != 0);
+        versions[row]++;
+        return offset + STATE_SIZE;
+    }
+}
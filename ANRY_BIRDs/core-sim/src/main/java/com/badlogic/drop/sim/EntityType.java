@@ -0,0 +1,10 @@
+package com.badlogic.drop.sim;
+
+/** What kind of entity a body belongs to; fixed when the body is created and used to index contact rules. */
+public enum EntityType {
+    BIRD,
+    PIG,
+    BLOCK;
+
+    static final int COUNT = values().length;
+}
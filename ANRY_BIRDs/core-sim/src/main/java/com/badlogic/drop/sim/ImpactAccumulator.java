@@ -0,0 +1,42 @@
+package com.badlogic.drop.sim;
+
+/**
+ * The strongest normal impulse each entity took during a step, collected from postSolve into a float array
+ * indexed by entity slot. Damage is applied once per touched entity after the step, however many contact
+ * points a tower generated.
+ */
+final class ImpactAccumulator {
+    private float[] strongest = new float[0];
+    private int[] touched = new int[0]; // Slots with an impulse this step, so applying skips untouched entities
+    private int touchedCount = 0;
+
+    // Size for a level's entities; called whenever the entity list is rebuilt
+    void resize(int entityCount) {
+        strongest = new float[entityCount];
+        touched = new int[entityCount];
+        touchedCount = 0;
+    }
+
+    void add(int slot, float impulse) {
+        if (strongest[slot] == 0f) {
+            touched[touchedCount++] = slot;
+        }
+        if (impulse > strongest[slot]) {
+            strongest[slot] = impulse;
+        }
+    }
+
+    void clear() {
+        for (int i = 0; i < touchedCount; i++) strongest[touched[i]] = 0f;
+        touchedCount = 0;
+    }
+
+    void apply(EntityStore store) {
+        for (int i = 0; i < touchedCount; i++) {
+            int slot = touched[i];
+            DamageRules.applyImpact(store, store.rowOf(slot), strongest[slot]);
+            strongest[slot] = 0f;
+        }
+        touchedCount = 0;
+    }
+}
@@ -0,0 +1,38 @@
+package com.badlogic.drop.sim;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector2;
+
+/** How a slingshot pull turns into a launch, shared by the touch controls and scripted shots. */
+public final class LaunchModel {
+    // Slingshot sprite placement in the level (bottom-left corner and size)
+    public static final float SLINGSHOT_X = 1.0f;
+    public static final float SLINGSHOT_Y = 0.5f;
+    public static final float SLINGSHOT_WIDTH = 0.8f;
+    public static final float SLINGSHOT_HEIGHT = 1.6f;
+
+    // The bird is held slightly above the slingshot head before it is pulled back
+    public static final float HEAD_X = SLINGSHOT_X + SLINGSHOT_WIDTH / 2;
+    public static final float HEAD_Y = SLINGSHOT_Y + SLINGSHOT_HEIGHT + 0.4f;
+
+    public static final float MAX_PULL = 1.0f; // How far the bird can be dragged from the head
+    public static final float POWER_PER_METER = 10f; // Launch speed per meter of pull
+
+    private LaunchModel() {
+    }
+
+    // Launch power for a drag that ended the given distance from the head
+    public static float powerForPull(float distance) {
+        return Math.min(distance, MAX_PULL) * POWER_PER_METER;
+    }
+
+    // Where the bird sits when it is pulled back for a shot with this angle (degrees) and power
+    public static Vector2 pullPosition(float angle, float power, Vector2 out) {
+        float pull = Math.min(power / POWER_PER_METER, MAX_PULL);
+        return out.set(HEAD_X - MathUtils.cosDeg(angle) * pull, HEAD_Y - MathUtils.sinDeg(angle) * pull);
+    }
+
+    public static Vector2 launchVelocity(float power, float angle, Vector2 out) {
+        return out.set(power, 0).setAngleDeg(angle);
+    }
+}
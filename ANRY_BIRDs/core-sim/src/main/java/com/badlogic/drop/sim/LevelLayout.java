@@ -0,0 +1,105 @@
+package com.badlogic.drop.sim;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/** Everything needed to build a level's world: size, win rule and where each bird, block and pig starts. */
+public class LevelLayout {
+    public enum WinCondition {
+        PIGS_CLEARED, // Every pig is gone
+        BLOCKS_TOPPLED // Every block has fallen to the ground
+    }
+
+    public static class BirdSpec {
+        public final float x, y;
+
+        BirdSpec(float x, float y) {
+            this.x = x;
+            this.y = y;
+        }
+    }
+
+    public static class BlockSpec {
+        public final Material material;
+        public final float x, y, width, height;
+        public final int health;
+
+        BlockSpec(Material material, float x, float y, float width, float height, int health) {
+            this.material = material;
+            this.x = x;
+            this.y = y;
+            this.width = width;
+            this.height = height;
+            this.health = health;
+        }
+    }
+
+    public static class PigSpec {
+        public final float x, y, damping;
+        public final int health;
+
+        PigSpec(float x, float y, float damping, int health) {
+            this.x = x;
+            this.y = y;
+            this.damping = damping;
+            this.health = health;
+        }
+    }
+
+    private final int number;
+    private final float worldWidth, worldHeight;
+    private final WinCondition winCondition;
+    private final List<BirdSpec> birds = new ArrayList<>();
+    private final List<BlockSpec> blocks = new ArrayList<>();
+    private final List<PigSpec> pigs = new ArrayList<>();
+
+    public LevelLayout(int number, float worldWidth, float worldHeight, WinCondition winCondition) {
+        this.number = number;
+        this.worldWidth = worldWidth;
+        this.worldHeight = worldHeight;
+        this.winCondition = winCondition;
+    }
+
+    public LevelLayout addBird(float x, float y) {
+        birds.add(new BirdSpec(x, y));
+        return this;
+    }
+
+    public LevelLayout addBlock(Material material, float x, float y, float width, float height, int health) {
+        blocks.add(new BlockSpec(material, x, y, width, height, health));
+        return this;
+    }
+
+    public LevelLayout addPig(float x, float y, float damping, int health) {
+        pigs.add(new PigSpec(x, y, damping, health));
+        return this;
+    }
+
+    public int getNumber() {
+        return number;
+    }
+
+    public float getWorldWidth() {
+        return worldWidth;
+    }
+
+    public float getWorldHeight() {
+        return worldHeight;
+    }
+
+    public WinCondition getWinCondition() {
+        return winCondition;
+    }
+
+    public List<BirdSpec> getBirds() {
+        return birds;
+    }
+
+    public List<BlockSpec> getBlocks() {
+        return blocks;
+    }
+
+    public List<PigSpec> getPigs() {
+        return pigs;
+    }
+}
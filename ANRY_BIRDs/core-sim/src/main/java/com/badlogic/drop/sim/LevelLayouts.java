@@ -0,0 +1,125 @@
+package com.badlogic.drop.sim;
+
+/** The shipped levels. */
+public final class LevelLayouts {
+    public static final int LEVEL_COUNT = 3; // Levels of the campaign, played in order
+    public static final int WIDE_LEVEL = 4; // Generated 200 m level, outside the campaign, see wide()
+
+    private static final float WORLD_WIDTH = 12f; // World width in meters
+    private static final float WORLD_HEIGHT = 8f; // World height in meters
+    private static final float WIDE_WIDTH = 200f;
+    private static final float WIDE_HEIGHT = 16f; // Room for the camera to zoom out to twice the screen
+    private static final float GROUND_TOP = 0.7f;
+
+    private LevelLayouts() {
+    }
+
+    public static LevelLayout forLevel(int level) {
+        switch (level) {
+            case 1:
+                return level1();
+            case 2:
+                return level2();
+            case 3:
+                return level3();
+            case WIDE_LEVEL:
+                return wide(WIDE_LEVEL, WIDE_WIDTH);
+            default:
+                throw new IllegalArgumentException("No such level: " + level);
+        }
+    }
+
+    public static boolean exists(int level) {
+        return level >= 1 && level <= WIDE_LEVEL;
+    }
+
+    private static LevelLayout withBirds(LevelLayout layout) {
+        return layout
+            .addBird(1.2f, 0.6f) // Bird near slingshot
+            .addBird(1.4f, 0.6f) // Bird near slingshot
+            .addBird(1.6f, 0.6f); // Bird on slingshot
+    }
+
+    // Three wooden pillars with a plank on top and three pigs on the plank
+    public static LevelLayout level1() {
+        LevelLayout layout = withBirds(new LevelLayout(1, WORLD_WIDTH, WORLD_HEIGHT, LevelLayout.WinCondition.PIGS_CLEARED));
+
+        float verticalBlockHeight = 1.7f;
+        float horizontalBlockWidth = 2.4f;
+        float horizontalBlockHeight = 0.2f;
+        layout.addBlock(Material.WOOD, 7.5f, 1.0f, 0.2f, verticalBlockHeight, 10); // Left vertical block
+        layout.addBlock(Material.WOOD, 9.0f, 1.0f, 0.2f, verticalBlockHeight, 10); // Right vertical block
+        layout.addBlock(Material.WOOD, 8.25f, 1.0f, 0.2f, verticalBlockHeight, 10); // Middle vertical block
+
+        // Horizontal block resting on top of the three vertical blocks
+        float horizontalBlockY = 1.0f + verticalBlockHeight + horizontalBlockHeight / 2;
+        layout.addBlock(Material.WOOD, 8.25f, horizontalBlockY, horizontalBlockWidth, horizontalBlockHeight, 10);
+
+        // Pigs distributed evenly on the horizontal block
+        float pigY = horizontalBlockY + horizontalBlockHeight / 2 + SimPig.RADIUS;
+        layout.addPig(8.25f - horizontalBlockWidth / 3, pigY, 0f, 10); // Left pig
+        layout.addPig(8.25f, pigY, 0f, 10); // Center pig
+        layout.addPig(8.25f + horizontalBlockWidth / 3, pigY, 0f, 10); // Right pig
+        return layout;
+    }
+
+    // A glass and a wooden tower; the level is won by knocking every block down
+    public static LevelLayout level2() {
+        LevelLayout layout = withBirds(new LevelLayout(2, WORLD_WIDTH, WORLD_HEIGHT, LevelLayout.WinCondition.BLOCKS_TOPPLED));
+
+        // Middle glass section
+        layout.addBlock(Material.GLASS, 7.0f, 1.0f, 0.2f, 1.5f, 5); // Vertical block
+        layout.addBlock(Material.GLASS, 7.0f, 2.7f, 1.5f, 0.2f, 5); // Horizontal block
+
+        // Right wooden section
+        layout.addBlock(Material.WOOD, 10.0f, 1.2f, 0.2f, 1.5f, 10); // Vertical block
+        layout.addBlock(Material.WOOD, 10.0f, 2.9f, 1.5f, 0.2f, 10); // Horizontal block
+
+        layout.addPig(7.0f, 3.1f, 5.0f, 10); // Slightly above the glass plank
+        layout.addPig(10.0f, 3.1f, 5.0f, 10); // Slightly above the wooden plank
+        return layout;
+    }
+
+    // Wood, glass and wood towers with a pig on each
+    public static LevelLayout level3() {
+        LevelLayout layout = withBirds(new LevelLayout(3, WORLD_WIDTH, WORLD_HEIGHT, LevelLayout.WinCondition.PIGS_CLEARED));
+
+        // Left wooden section
+        layout.addBlock(Material.WOOD, 4.0f, 1.2f, 0.2f, 1.5f, 10); // Vertical block
+        layout.addBlock(Material.WOOD, 4.0f, 2.9f, 1.5f, 0.2f, 10); // Horizontal block
+
+        // Middle glass section
+        layout.addBlock(Material.GLASS, 7.0f, 1.0f, 0.2f, 1.5f, 5); // Vertical block
+        layout.addBlock(Material.GLASS, 7.0f, 2.7f, 1.5f, 0.2f, 5); // Horizontal block
+
+        // Right wooden section
+        layout.addBlock(Material.WOOD, 10.0f, 1.2f, 0.2f, 1.5f, 10); // Vertical block
+        layout.addBlock(Material.WOOD, 10.0f, 2.9f, 1.5f, 0.2f, 10); // Horizontal block
+
+        layout.addPig(4.0f, 3.1f, 5.0f, 10); // Left section
+        layout.addPig(7.0f, 3.1f, 5.0f, 10); // Middle section
+        layout.addPig(10.0f, 3.1f, 5.0f, 10); // Right section
+        return layout;
+    }
+
+    // A strip of small towers with a pig on each, every 8 m over the whole width, for measuring levels far
+    // wider than the screen. The birds only reach the first few towers, so it can't be won.
+    public static LevelLayout wide(int number, float width) {
+        LevelLayout layout = withBirds(new LevelLayout(number, width, WIDE_HEIGHT, LevelLayout.WinCondition.PIGS_CLEARED));
+
+        float pillarHeight = 1.5f;
+        float plankWidth = 1.6f;
+        float plankHeight = 0.2f;
+        float plankY = GROUND_TOP + pillarHeight + plankHeight / 2;
+        int tower = 0;
+        for (float x = 7f; x < width - 3f; x += 8f, tower++) {
+            Material material = tower % 3 == 2 ? Material.GLASS : Material.WOOD; // Every third tower is glass
+            int health = material == Material.GLASS ? 5 : 10;
+            layout.addBlock(material, x - 0.6f, GROUND_TOP + pillarHeight / 2, 0.2f, pillarHeight, health); // Left pillar
+            layout.addBlock(material, x + 0.6f, GROUND_TOP + pillarHeight / 2, 0.2f, pillarHeight, health); // Right pillar
+            layout.addBlock(material, x, plankY, plankWidth, plankHeight, health); // Plank across both
+            layout.addPig(x, plankY + plankHeight / 2 + SimPig.RADIUS, 5.0f, 10);
+        }
+        return layout;
+    }
+}
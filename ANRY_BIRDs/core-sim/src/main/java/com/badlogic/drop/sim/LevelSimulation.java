@@ -0,0 +1,604 @@
+package com.badlogic.drop.sim;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.Contact;
+import com.badlogic.gdx.physics.box2d.ContactImpulse;
+import com.badlogic.gdx.physics.box2d.ContactListener;
+import com.badlogic.gdx.physics.box2d.Manifold;
+import com.badlogic.gdx.physics.box2d.World;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A level's world and game rules without any rendering: bodies, damage, removal and the win/loss check.
+ * Screens drive it through {@link PhysicsStepper}; the headless runner calls {@link #step()} directly.
+ */
+public class LevelSimulation {
+    public enum Outcome {
+        IN_PROGRESS,
+        WON,
+        LOST
+    }
+
+    public static final float GRAVITY = -9.8f;
+    private static final float GROUND_HEIGHT = 0.7f;
+
+    // The scene is at rest once every body is asleep or slower than this for REST_STEPS steps in a row
+    public static final float REST_LINEAR_SPEED = 0.05f; // m/s
+    public static final float REST_ANGULAR_SPEED = 0.1f; // rad/s
+    private static final int REST_STEPS = 10;
+
+    // Split a step up when a bird would travel more than this share of the thinnest block in it
+    private static final float MAX_TRAVEL_FRACTION = 0.5f;
+    private static final int MAX_SUBSTEPS = 4;
+
+    private static final int MAX_SETTLE_STEPS = 300; // Longest we let a new level drop into place
+
+    private final LevelLayout layout;
+    private final WorldPool pool; // Where worlds come from and go back to; null if the level owns its worlds
+    private PhysicsWorld physics;
+    private World world;
+    private final EntityStore store; // State of every bird, pig and block; the per-step passes loop over it
+    private final WorldCommands commands = new WorldCommands(); // Body changes, applied right before each step
+
+    // Every bird, block and pig the level started with, removed or not, in creation order
+    private final ArrayList<SimBird> birds = new ArrayList<>();
+    private final ArrayList<SimBlock> blocks = new ArrayList<>();
+    private final ArrayList<SimPig> pigs = new ArrayList<>();
+
+    private LevelSnapshot initialSnapshot;
+    private final Vector2 launchTemp = new Vector2();
+    private final ContactEvents contactEvents;
+    private final ImpactAccumulator impacts = new ImpactAccumulator();
+
+    private final SupportGraph support = new SupportGraph();
+    private Body ground;
+    private long stepCount = 0;
+    private boolean settling = false; // Impacts do no damage while a freshly built level drops into place
+    private int quietSteps = 0; // Steps in a row in which nothing moved faster than the rest speeds
+    private boolean continuousCollision = true; // Fast birds become Box2D bullets
+    private boolean adaptiveSubstepping = true;
+    private float thinnestBlock = Float.MAX_VALUE; // Smallest block width or height in the layout
+    private long substeppedSteps = 0; // Steps that were split into substeps
+
+    // Contact callbacks Box2D sent into Java vs. contacts that had a damage rule, for the last step and overall
+    private int callbacksLastStep = 0, handledLastStep = 0;
+    private int callbacksThisStep = 0;
+    private long callbacksTotal = 0, handledTotal = 0;
+    private long transformsRead = 0, transformsSkipped = 0; // Box2D transform reads done and avoided
+
+    public LevelSimulation(LevelLayout layout) {
+        this(layout, null);
+    }
+
+    // Take the world, and any bodies parked in it, from the pool; dispose() hands it back
+    public LevelSimulation(LevelLayout layout, WorldPool pool) {
+        this.layout = layout;
+        this.pool = pool;
+        store = new EntityStore(layout.getBirds().size() + layout.getBlocks().size() + layout.getPigs().size(), commands);
+        contactEvents = new ContactEvents(store);
+        createWorld(pool != null ? pool.obtain() : new PhysicsWorld());
+        settle();
+        initialSnapshot = snapshot();
+    }
+
+    // Spawn positions overlap the ground and leave planks and pigs hanging a little above what holds them,
+    // so let the level drop into place before anyone sees it, without the landing counting as damage
+    private void settle() {
+        settling = true;
+        for (int i = 0; i < MAX_SETTLE_STEPS && !isAtRest(); i++) {
+            step();
+        }
+        settling = false;
+        stepCount = 0;
+        quietSteps = 0;
+        resetCounters();
+    }
+
+    private void resetCounters() {
+        substeppedSteps = 0;
+        callbacksLastStep = handledLastStep = callbacksThisStep = 0;
+        callbacksTotal = handledTotal = 0;
+        transformsRead = transformsSkipped = 0;
+        commands.resetCounters();
+    }
+
+    private void createWorld(PhysicsWorld physics) {
+        this.physics = physics;
+        world = physics.getWorld();
+
+        // Only record contacts and impulses here; DamageRules applies them once the step is over
+        world.setContactListener(new ContactListener() {
+            @Override
+            public void beginContact(Contact contact) {
+                callbacksThisStep++;
+                Body bodyA = contact.getFixtureA().getBody();
+                Body bodyB = contact.getFixtureB().getBody();
+                Object userDataA = bodyA.getUserData();
+                Object userDataB = bodyB.getUserData();
+                if (userDataA != null && userDataB != null) { // Ground and walls carry no entity
+                    contactEvents.record((Integer) userDataA, (Integer) userDataB);
+                }
+                updateSupport(bodyA, bodyB, true);
+            }
+
+            @Override
+            public void endContact(Contact contact) {
+                callbacksThisStep++;
+                updateSupport(contact.getFixtureA().getBody(), contact.getFixtureB().getBody(), false);
+            }
+
+            // Box2D's JNI layer calls this for every touching pair whether we need it or not
+
+            @Override
+            public void preSolve(Contact contact, Manifold oldManifold) {
+                callbacksThisStep++;
+            }
+
+            @Override
+            public void postSolve(Contact contact, ContactImpulse impulse) {
+                callbacksThisStep++;
+
+                // Resting contacts stop here, before we pay for looking up the bodies
+                float strongest = 0f;
+                float[] normalImpulses = impulse.getNormalImpulses();
+                for (int i = 0, n = impulse.getCount(); i < n; i++) {
+                    strongest = Math.max(strongest, normalImpulses[i]);
+                }
+                if (strongest <= DamageRules.MIN_DAMAGING_IMPULSE) return;
+
+                Object userDataA = contact.getFixtureA().getBody().getUserData();
+                Object userDataB = contact.getFixtureB().getBody().getUserData();
+                if (userDataA != null) impacts.add(EntityStore.slotOf((Integer) userDataA), strongest);
+                if (userDataB != null) impacts.add(EntityStore.slotOf((Integer) userDataB), strongest);
+            }
+        });
+
+        initializeGround();
+        initializeBoundaries();
+        initializeEntities();
+        physics.trimParked(); // What the last level left and this one didn't need
+    }
+
+    // Start the level over from its settled layout. The world is rebuilt rather than emptied or taken from
+    // the pool: Box2D hands out broadphase proxies in an order that depends on earlier removals, which would
+    // change contact order and make a replayed shot land differently.
+    public void reset() {
+        releaseWorld();
+        contactEvents.clear();
+        resetCounters();
+        createWorld(new PhysicsWorld());
+        restore(initialSnapshot);
+    }
+
+    // Slots follow creation order: birds, then blocks, then pigs
+    private void initializeEntities() {
+        store.clear();
+        birds.clear();
+        blocks.clear();
+        pigs.clear();
+        for (LevelLayout.BirdSpec spec : layout.getBirds()) {
+            birds.add(new SimBird(spec.x, spec.y, physics, store));
+        }
+        for (LevelLayout.BlockSpec spec : layout.getBlocks()) {
+            thinnestBlock = Math.min(thinnestBlock, Math.min(spec.width, spec.height));
+            blocks.add(new SimBlock(spec.material, spec.x, spec.y, spec.width, spec.height, physics, store, spec.health));
+        }
+        for (LevelLayout.PigSpec spec : layout.getPigs()) {
+            pigs.add(new SimPig(spec.x, spec.y, spec.damping, physics, store, spec.health));
+        }
+        impacts.resize(store.size());
+        support.resize(store.size());
+    }
+
+    private void initializeGround() {
+        float width = layout.getWorldWidth();
+        ground = physics.obtainBody(staticBox(width / 2, GROUND_HEIGHT / 2, CollisionBits.GROUND, CollisionBits.GROUND_MASK),
+            width / 2, GROUND_HEIGHT / 2); // Full width, centered horizontally
+    }
+
+    private void initializeBoundaries() {
+        float width = layout.getWorldWidth();
+        float height = layout.getWorldHeight();
+
+        // Thin left and right walls and a ceiling
+        BodySpec wall = staticBox(0.1f, height / 2, CollisionBits.BOUNDARY, CollisionBits.BOUNDARY_MASK);
+        physics.obtainBody(wall, 0, height / 2);
+        physics.obtainBody(wall, width, height / 2);
+        physics.obtainBody(staticBox(width / 2, 0.1f, CollisionBits.BOUNDARY, CollisionBits.BOUNDARY_MASK), width / 2, height);
+    }
+
+    // Ground and boundaries keep Box2D's default fixture material
+    private static BodySpec staticBox(float halfWidth, float halfHeight, short category, short mask) {
+        return BodySpec.box(BodyDef.BodyType.StaticBody, halfWidth, halfHeight, 0f, 0.2f, 0f, category, mask);
+    }
+
+    private void releaseWorld() {
+        commands.clear(); // Whatever is still queued was meant for bodies that are about to go
+        if (pool != null) {
+            pool.free(physics);
+        } else {
+            physics.dispose();
+        }
+    }
+
+    // One fixed physics step followed by the game rules for that step. Body changes queued since the last
+    // step, by the rules or by input, go into the world first, all at once and never while it steps.
+    public void step() {
+        commands.flush();
+        store.beginStep();
+
+        // Fast birds get CCD, and a step in which one would cover too much of a thin block is split up
+        float fastestBird = 0f;
+        for (int row = 0, n = store.getLiveCount(); row < n; row++) {
+            if (store.types[row] != EntityType.BIRD) continue;
+            float speed = flightSpeed(row);
+            updateBullet(row, speed);
+            fastestBird = Math.max(fastestBird, speed);
+        }
+        int substeps = adaptiveSubstepping ? substepsFor(fastestBird) : 1;
+        if (substeps > 1) substeppedSteps++;
+
+        float substep = PhysicsStepper.TIMESTEP / substeps;
+        for (int i = 0; i < substeps; i++) {
+            world.step(substep, PhysicsStepper.VELOCITY_ITERATIONS, PhysicsStepper.POSITION_ITERATIONS);
+        }
+        callbacksLastStep = callbacksThisStep;
+        handledLastStep = contactEvents.size();
+        callbacksTotal += callbacksLastStep;
+        handledTotal += handledLastStep;
+        callbacksThisStep = 0;
+        contactEvents.dispatch();
+        if (settling) {
+            impacts.clear();
+        } else {
+            impacts.apply(store);
+        }
+
+        int read = store.syncTransforms();
+        transformsRead += read;
+        transformsSkipped += store.getLiveCount() - read;
+
+        updateAndRemoveBlocks();
+        updateAndRemovePigs(PhysicsStepper.TIMESTEP);
+        updateAndRemoveBirds(PhysicsStepper.TIMESTEP);
+        quietSteps = store.isQuiet(REST_LINEAR_SPEED, REST_ANGULAR_SPEED) ? quietSteps + 1 : 0;
+        stepCount++;
+    }
+
+    // Speed of a thrown bird that is still awake, 0 for one that is waiting or asleep
+    private float flightSpeed(int row) {
+        int flags = store.flags[row];
+        if ((flags & EntityStore.LAUNCHED) == 0 || (flags & EntityStore.AWAKE) == 0) return 0f;
+        return store.bodies[row].getLinearVelocity().len();
+    }
+
+    // Box2D only sweeps dynamic-vs-dynamic contacts for bullets, and bullets cost extra solver time,
+    // so a bird is one only while it is fast enough to pass through a block in a single step
+    private void updateBullet(int row, float speed) {
+        boolean wantBullet = continuousCollision && speed >= SimBird.BULLET_SPEED;
+        boolean bullet = (store.flags[row] & EntityStore.BULLET) != 0;
+        if (wantBullet != bullet) {
+            store.bodies[row].setBullet(wantBullet);
+            store.flags[row] ^= EntityStore.BULLET;
+        }
+    }
+
+    private int substepsFor(float speed) {
+        float travel = speed * PhysicsStepper.TIMESTEP;
+        float allowed = thinnestBlock * MAX_TRAVEL_FRACTION;
+        if (travel <= allowed) return 1;
+        return Math.min(MAX_SUBSTEPS, (int) Math.ceil(travel / allowed));
+    }
+
+    public void setContinuousCollision(boolean continuousCollision) {
+        this.continuousCollision = continuousCollision;
+    }
+
+    public void setAdaptiveSubstepping(boolean adaptiveSubstepping) {
+        this.adaptiveSubstepping = adaptiveSubstepping;
+    }
+
+    public int getCallbacksLastStep() {
+        return callbacksLastStep;
+    }
+
+    public int getHandledLastStep() {
+        return handledLastStep;
+    }
+
+    public long getCallbacksTotal() {
+        return callbacksTotal;
+    }
+
+    public long getHandledTotal() {
+        return handledTotal;
+    }
+
+    public long getSubsteppedSteps() {
+        return substeppedSteps;
+    }
+
+    // The removal passes walk the live rows from the end: removing swaps the last live row into the current
+    // one, and that row has already been visited
+
+    private void updateAndRemoveBirds(float delta) {
+        for (int row = store.getLiveCount() - 1; row >= 0; row--) {
+            if (store.types[row] != EntityType.BIRD) continue;
+
+            // Mark bird as collided when it stops
+            boolean stopped = isStopped(row);
+            if (stopped) store.flags[row] |= EntityStore.COLLIDED;
+
+            // Remove bird a while after it stops or collides
+            if ((store.flags[row] & EntityStore.COLLIDED) != 0) {
+                store.timers[row] += delta;
+                if (store.timers[row] >= SimBird.REMOVAL_DELAY) store.remove(store.slots[row]);
+            }
+        }
+    }
+
+    // A thrown bird is considered stopped if velocity and angular velocity are low
+    private boolean isStopped(int row) {
+        if ((store.flags[row] & EntityStore.LAUNCHED) == 0) return false;
+        Body body = store.bodies[row];
+        return body.getLinearVelocity().len() < 0.1f && body.getAngularVelocity() < 0.1f;
+    }
+
+    private void updateAndRemoveBlocks() {
+        for (int row = store.getLiveCount() - 1; row >= 0; row--) {
+            if (store.types[row] != EntityType.BLOCK) continue;
+
+            if ((store.flags[row] & EntityStore.BROKEN) != 0) {
+                collapseAround(store.slots[row]);
+                store.remove(store.slots[row]);
+            } else if (store.y[row] < 0) {
+                store.remove(store.slots[row]); // Fell out of the world
+            }
+        }
+    }
+
+    // Blocks and pigs only count as support for each other; birds pass through the graph
+    private void updateSupport(Body bodyA, Body bodyB, boolean touching) {
+        Object userDataA = bodyA.getUserData();
+        Object userDataB = bodyB.getUserData();
+        int slotA = userDataA != null ? EntityStore.slotOf((Integer) userDataA) : -1;
+        int slotB = userDataB != null ? EntityStore.slotOf((Integer) userDataB) : -1;
+        if (slotA >= 0 && store.types[store.rowOf(slotA)] == EntityType.BIRD) return;
+        if (slotB >= 0 && store.types[store.rowOf(slotB)] == EntityType.BIRD) return;
+
+        if (slotA >= 0 && slotB >= 0) {
+            if (touching) {
+                support.connect(slotA, slotB);
+            } else {
+                support.disconnect(slotA, slotB);
+            }
+        } else if (slotA >= 0 || slotB >= 0) {
+            Body other = slotA >= 0 ? bodyB : bodyA;
+            if (other != ground) return; // Side walls and the ceiling hold nothing up
+            int slot = slotA >= 0 ? slotA : slotB;
+            if (touching) {
+                support.touchGround(slot);
+            } else {
+                support.leaveGround(slot);
+            }
+        }
+    }
+
+    // A destroyed block stops holding anything up. Box2D does not wake what was resting on a body it
+    // deactivates, so wake what the block touched and whatever lost its path to the ground through it;
+    // pigs in that group go down with it.
+    private void collapseAround(int blockSlot) {
+        support.detach(blockSlot);
+
+        for (int i = 0, n = support.getFormerNeighbourCount(); i < n; i++) {
+            store.wake(support.getFormerNeighbour(i));
+        }
+        for (int i = 0, n = support.getUnsupportedCount(); i < n; i++) {
+            int slot = support.getUnsupported(i);
+            store.wake(slot);
+            int row = store.rowOf(slot);
+            if (store.types[row] == EntityType.PIG) store.breakRow(row);
+        }
+    }
+
+    private void updateAndRemovePigs(float delta) {
+        for (int row = store.getLiveCount() - 1; row >= 0; row--) {
+            if (store.types[row] != EntityType.PIG) continue;
+
+            // Remove the pig a moment after its health runs out
+            if ((store.flags[row] & EntityStore.BROKEN) != 0) {
+                store.timers[row] += delta;
+                if (store.timers[row] >= SimPig.REMOVAL_DELAY) store.remove(store.slots[row]);
+            }
+        }
+    }
+
+    public Outcome getOutcome() {
+        boolean won = layout.getWinCondition() == LevelLayout.WinCondition.PIGS_CLEARED
+            ? store.getLiveCount(EntityType.PIG) == 0
+            : areAllBlocksFallen();
+        if (won) {
+            return Outcome.WON;
+        } else if (store.getLiveCount(EntityType.BIRD) == 0) {
+            return Outcome.LOST; // No birds left to throw
+        }
+        return Outcome.IN_PROGRESS;
+    }
+
+    private boolean areAllBlocksFallen() {
+        for (int row = 0, n = store.getLiveCount(); row < n; row++) {
+            if (store.types[row] == EntityType.BLOCK && store.y[row] > 0.5f) { // Still above the ground level
+                return false;
+            }
+        }
+        return true; // All blocks have fallen
+    }
+
+    // True once nothing has moved noticeably for a few steps; further steps won't change the scene much
+    public boolean isAtRest() {
+        return quietSteps >= REST_STEPS;
+    }
+
+    // At rest and done with removals: dead pigs and thrown birds are gone, so the outcome is final
+    // for the birds thrown so far
+    public boolean isSettled() {
+        if (!isAtRest()) return false;
+        for (int row = 0, n = store.getLiveCount(); row < n; row++) {
+            int flags = store.flags[row];
+            if (store.types[row] == EntityType.PIG && (flags & EntityStore.BROKEN) != 0) {
+                return false; // Still waiting for its removal timer
+            }
+            if (store.types[row] == EntityType.BIRD && (flags & EntityStore.LAUNCHED) != 0) return false;
+        }
+        return true;
+    }
+
+    public int getPigsKilled() {
+        return layout.getPigs().size() - countLive(EntityType.PIG);
+    }
+
+    public int getBlocksDestroyed() {
+        return layout.getBlocks().size() - countLive(EntityType.BLOCK);
+    }
+
+    // Live entities of a kind whose health hasn't run out
+    private int countLive(EntityType type) {
+        int count = 0;
+        for (int row = 0, n = store.getLiveCount(); row < n; row++) {
+            if (store.types[row] == type && (store.flags[row] & EntityStore.BROKEN) == 0) count++;
+        }
+        return count;
+    }
+
+    // Every bird has been thrown and has hit something or come to a stop; all that's left is settling
+    public boolean hasLastBirdLanded() {
+        int landed = EntityStore.LAUNCHED | EntityStore.COLLIDED;
+        for (int row = 0, n = store.getLiveCount(); row < n; row++) {
+            if (store.types[row] == EntityType.BIRD && (store.flags[row] & landed) != landed) return false;
+        }
+        return true;
+    }
+
+    // The first bird still waiting next to the slingshot, or null if all have been thrown
+    public SimBird nextBird() {
+        for (SimBird bird : birds) {
+            if (!bird.isRemoved() && !bird.isLaunched()) {
+                return bird;
+            }
+        }
+        return null;
+    }
+
+    // Pull the next bird back and release it, the same way a drag on the slingshot does
+    public SimBird launchNextBird(float angle, float power) {
+        SimBird bird = nextBird();
+        if (bird != null) {
+            LaunchModel.pullPosition(angle, power, launchTemp);
+            bird.moveToSlingshot(launchTemp.x, launchTemp.y);
+            LaunchModel.launchVelocity(power, angle, launchTemp);
+            bird.launch(launchTemp.x, launchTemp.y);
+        }
+        return bird;
+    }
+
+    public LevelSnapshot snapshot() {
+        LevelSnapshot snapshot = new LevelSnapshot(store.size() * EntityStore.STATE_SIZE);
+        capture(snapshot);
+        return snapshot;
+    }
+
+    // Overwrite an existing snapshot of this level instead of allocating a new one
+    public void capture(LevelSnapshot snapshot) {
+        if (snapshot.data.length != store.size() * EntityStore.STATE_SIZE) {
+            throw new IllegalArgumentException("Snapshot was taken from a different level");
+        }
+        commands.flush(); // Queued changes are part of the state being captured
+        int offset = 0;
+        for (int slot = 0; slot < store.size(); slot++) offset = store.write(slot, snapshot.data, offset);
+        snapshot.stepCount = stepCount;
+    }
+
+    // Put every body and entity back the way the snapshot found them, reusing the existing bodies
+    public void restore(LevelSnapshot snapshot) {
+        if (snapshot.data.length != store.size() * EntityStore.STATE_SIZE) {
+            throw new IllegalArgumentException("Snapshot was taken from a different level");
+        }
+        commands.flush(); // Let them land before the snapshot overwrites the bodies
+        int offset = 0;
+        for (int slot = 0; slot < store.size(); slot++) offset = store.read(slot, snapshot.data, offset);
+        stepCount = snapshot.stepCount;
+        quietSteps = 0;
+    }
+
+    // Back to the state the level was built in
+    public void restart() {
+        restore(initialSnapshot);
+    }
+
+    public LevelLayout getLayout() {
+        return layout;
+    }
+
+    public World getWorld() {
+        return world;
+    }
+
+    public EntityStore getStore() {
+        return store;
+    }
+
+    // Every bird, block or pig of the level in creation order, including removed ones
+
+    public List<SimBird> getBirds() {
+        return birds;
+    }
+
+    public List<SimBlock> getBlocks() {
+        return blocks;
+    }
+
+    public List<SimPig> getPigs() {
+        return pigs;
+    }
+
+    public long getStepCount() {
+        return stepCount;
+    }
+
+    public long getTransformsRead() {
+        return transformsRead;
+    }
+
+    public long getTransformsSkipped() {
+        return transformsSkipped;
+    }
+
+    // Body changes applied from the command buffer and the time spent applying them
+    public long getCommandsFlushed() {
+        return commands.getFlushed();
+    }
+
+    public long getMutationNanos() {
+        return commands.getFlushNanos();
+    }
+
+    // What holds an entity up, for the debug overlay: its contacts with the ground and with other blocks and pigs
+    public int getGroundContacts(int slot) {
+        return support.getGroundContacts(slot);
+    }
+
+    public int getSupportContacts(int slot) {
+        return support.getDegree(slot);
+    }
+
+    public PhysicsWorld getPhysics() {
+        return physics;
+    }
+
+    public void dispose() {
+        releaseWorld();
+    }
+}
@@ -0,0 +1,19 @@
+package com.badlogic.drop.sim;
+
+/**
+ * A level's full state at one moment: every body's transform, velocities and awake flag plus each
+ * entity's health and flags, packed into one float array. Only valid for the simulation that took it.
+ */
+public final class LevelSnapshot {
+    final float[] data;
+    long stepCount;
+
+    LevelSnapshot(int size) {
+        this.data = new float[size];
+    }
+
+    // Size of the packed state in bytes
+    public int getByteSize() {
+        return data.length * Float.BYTES;
+    }
+}
@@ -0,0 +1,23 @@
+package com.badlogic.drop.sim;
+
+/** What a block is made of, and how hard it has to be hit before it takes damage. */
+public enum Material {
+    WOOD(0.3f, 20f),
+    GLASS(0.15f, 30f);
+
+    private final float impulseThreshold; // Ns; weaker hits, like the weight of what rests on it, do nothing
+    private final float damagePerImpulse; // Health lost per Ns above the threshold
+
+    Material(float impulseThreshold, float damagePerImpulse) {
+        this.impulseThreshold = impulseThreshold;
+        this.damagePerImpulse = damagePerImpulse;
+    }
+
+    public float getImpulseThreshold() {
+        return impulseThreshold;
+    }
+
+    public float getDamagePerImpulse() {
+        return damagePerImpulse;
+    }
+}
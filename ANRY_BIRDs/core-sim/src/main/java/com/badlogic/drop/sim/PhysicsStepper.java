@@ -0,0 +1,82 @@
+package com.badlogic.drop.sim;
+
+/**
+ * Steps a level simulation at a fixed rate, independent of the frame rate. In fast-forward it instead
+ * runs as many steps as fit in a small time budget each frame, until the level settles.
+ */
+public class PhysicsStepper {
+    public static final float TIMESTEP = 1 / 60f;
+    public static final int VELOCITY_ITERATIONS = 8;
+    public static final int POSITION_ITERATIONS = 3;
+    private static final int MAX_STEPS_PER_FRAME = 5; // Cap so a slow frame can't snowball into a spiral of death
+    private static final long FAST_FORWARD_BUDGET_NANOS = 8_000_000L; // Leaves room for the frame's own rendering
+
+    private final LevelSimulation simulation;
+    private float accumulator = 0f;
+    private boolean fastForward = false;
+
+    public PhysicsStepper(LevelSimulation simulation) {
+        this.simulation = simulation;
+    }
+
+    // Runs as many fixed steps as the accumulated frame time allows, returns how many were taken
+    public int advance(float delta) {
+        if (fastForward) {
+            return fastForward();
+        }
+        accumulator += delta;
+
+        int steps = 0;
+        while (accumulator >= TIMESTEP && steps < MAX_STEPS_PER_FRAME) {
+            simulation.step();
+            accumulator -= TIMESTEP;
+            steps++;
+        }
+
+        // Drop whatever we could not catch up on instead of carrying it into the next frame
+        if (accumulator >= TIMESTEP) {
+            accumulator %= TIMESTEP;
+        }
+        return steps;
+    }
+
+    // Forget any leftover frame time, e.g. after the simulation was restored to a snapshot
+    public void reset() {
+        accumulator = 0f;
+        fastForward = false;
+    }
+
+    // Skip ahead until the simulation settles or the outcome is decided, then fall back to real time
+    public void setFastForward(boolean fastForward) {
+        this.fastForward = fastForward;
+    }
+
+    public boolean isFastForwarding() {
+        return fastForward;
+    }
+
+    private int fastForward() {
+        long deadline = System.nanoTime() + FAST_FORWARD_BUDGET_NANOS;
+        int steps = 0;
+        do {
+            simulation.step();
+            steps++;
+        } while (!isDone() && System.nanoTime() < deadline);
+
+        // Each frame draws wherever the skip has got to, with no blending between far-apart states
+        accumulator = 0f;
+        if (isDone()) {
+            fastForward = false;
+        }
+        return steps;
+    }
+
+    private boolean isDone() {
+        return simulation.isSettled() || simulation.getOutcome() != LevelSimulation.Outcome.IN_PROGRESS;
+    }
+
+    // How far we are between the previous and the current physics state (0..1)
+    public float getAlpha() {
+        return accumulator / TIMESTEP;
+    }
+}
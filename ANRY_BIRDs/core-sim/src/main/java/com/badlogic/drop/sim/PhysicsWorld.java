@@ -0,0 +1,131 @@
+package com.badlogic.drop.sim;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.CircleShape;
+import com.badlogic.gdx.physics.box2d.FixtureDef;
+import com.badlogic.gdx.physics.box2d.PolygonShape;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.Disposable;
+import java.util.ArrayList;
+import java.util.HashMap;
+
+/**
+ * A Box2D world together with every body it has made. When a level is done with it the bodies are
+ * deactivated and parked by {@link BodySpec}, and the next level using the world takes them over instead
+ * of creating new ones; whatever it doesn't take is destroyed, so a world never holds more than one level's
+ * bodies. Bodies that do have to be created share one set of def and shape prototypes.
+ */
+public final class PhysicsWorld implements Disposable {
+    private final World world = new World(new Vector2(0, LevelSimulation.GRAVITY), true);
+    private final HashMap<BodySpec, ArrayList<Body>> parked = new HashMap<>();
+    private final ArrayList<Body> inUse = new ArrayList<>();
+    private final ArrayList<BodySpec> inUseSpecs = new ArrayList<>();
+
+    // Box2D copies these into every body and fixture it creates, so one of each is enough
+    private final BodyDef bodyDef = new BodyDef();
+    private final FixtureDef fixtureDef = new FixtureDef();
+    private final PolygonShape box = new PolygonShape();
+    private final CircleShape circle = new CircleShape();
+
+    private int bodiesCreated = 0, bodiesReused = 0, bodiesDestroyed = 0;
+
+    public World getWorld() {
+        return world;
+    }
+
+    // An active, awake body at rest at (x, y), taken from the parked ones when there is one with this spec
+    Body obtainBody(BodySpec spec, float x, float y) {
+        ArrayList<Body> free = parked.get(spec);
+        Body body;
+        if (free != null && !free.isEmpty()) {
+            body = free.remove(free.size() - 1);
+            if (body.getType() != spec.type) body.setType(spec.type); // Birds may have been left kinematic
+            body.setBullet(false);
+            body.setTransform(x, y, 0);
+            body.setLinearVelocity(0, 0);
+            body.setAngularVelocity(0);
+            body.setActive(true);
+            body.setAwake(true);
+            bodiesReused++;
+        } else {
+            body = createBody(spec, x, y);
+            bodiesCreated++;
+        }
+        inUse.add(body);
+        inUseSpecs.add(spec);
+        return body;
+    }
+
+    private Body createBody(BodySpec spec, float x, float y) {
+        bodyDef.type = spec.type;
+        bodyDef.position.set(x, y);
+        bodyDef.linearDamping = spec.damping;
+        bodyDef.angularDamping = spec.damping;
+        Body body = world.createBody(bodyDef);
+
+        if (spec.circle) {
+            circle.setRadius(spec.halfWidth);
+            fixtureDef.shape = circle;
+        } else {
+            box.setAsBox(spec.halfWidth, spec.halfHeight);
+            fixtureDef.shape = box;
+        }
+        fixtureDef.density = spec.density;
+        fixtureDef.friction = spec.friction;
+        fixtureDef.restitution = spec.restitution;
+        CollisionBits.set(fixtureDef.filter, spec.category, spec.mask);
+        body.createFixture(fixtureDef);
+        return body;
+    }
+
+    // Park every body for the next level. The old level's listener goes first so deactivating doesn't
+    // report ended contacts to it.
+    void recycle() {
+        world.setContactListener(null);
+        for (int i = 0; i < inUse.size(); i++) {
+            Body body = inUse.get(i);
+            body.setActive(false);
+            body.setUserData(null);
+            parked.computeIfAbsent(inUseSpecs.get(i), spec -> new ArrayList<>()).add(body);
+        }
+        inUse.clear();
+        inUseSpecs.clear();
+    }
+
+    // Destroy the parked bodies the new level didn't take over. Inactive bodies still cost Box2D a visit
+    // every step and hold native memory, and a spec that doesn't come back would keep them forever.
+    void trimParked() {
+        for (ArrayList<Body> free : parked.values()) {
+            for (int i = 0; i < free.size(); i++) world.destroyBody(free.get(i));
+            bodiesDestroyed += free.size();
+        }
+        parked.clear();
+    }
+
+    public int getBodiesParked() {
+        int count = 0;
+        for (ArrayList<Body> free : parked.values()) count += free.size();
+        return count;
+    }
+
+    public int getBodiesCreated() {
+        return bodiesCreated;
+    }
+
+    public int getBodiesReused() {
+        return bodiesReused;
+    }
+
+    public int getBodiesDestroyed() {
+        return bodiesDestroyed;
+    }
+
+    @Override
+    public void dispose() {
+        world.dispose();
+        box.dispose();
+        circle.dispose();
+    }
+}
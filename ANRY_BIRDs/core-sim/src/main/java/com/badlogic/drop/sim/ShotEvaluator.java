@@ -0,0 +1,118 @@
+package com.badlogic.drop.sim;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Scores many (angle, power) shots for a level in parallel. Every worker thread keeps its own
+ * {@link LevelSimulation} and resets it between shots, so a shot scores the same on any thread.
+ */
+public class ShotEvaluator {
+    // Layout of one shot's entry in the result array
+    public static final int PIGS_KILLED = 0;
+    public static final int BLOCKS_DESTROYED = 1;
+    public static final int STEPS_TO_REST = 2;
+    public static final int RESULT_STRIDE = 3;
+
+    private static final int BATCH_SIZE = 8; // Shots a worker claims at a time
+
+    private final LevelLayout layout;
+    private final int threadCount;
+    private final int maxSteps;
+    private final ExecutorService pool;
+    private final ThreadLocal<LevelSimulation> simulations;
+    private final List<LevelSimulation> created = Collections.synchronizedList(new ArrayList<>());
+
+    public ShotEvaluator(LevelLayout layout, int threadCount, int maxSteps) {
+        this.layout = layout;
+        this.threadCount = threadCount;
+        this.maxSteps = maxSteps;
+        this.pool = Executors.newFixedThreadPool(threadCount, runnable -> {
+            Thread thread = new Thread(runnable, "shot-evaluator");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.simulations = ThreadLocal.withInitial(() -> {
+            LevelSimulation simulation = new LevelSimulation(this.layout);
+            created.add(simulation);
+            return simulation;
+        });
+    }
+
+    public int getThreadCount() {
+        return threadCount;
+    }
+
+    // Fires the first bird of a fresh level once per candidate; results are RESULT_STRIDE ints per shot
+    public int[] evaluate(float[] angles, float[] powers) {
+        if (angles.length != powers.length) {
+            throw new IllegalArgumentException("Need one power per angle");
+        }
+
+        int count = angles.length;
+        int[] results = new int[count * RESULT_STRIDE];
+        AtomicInteger next = new AtomicInteger();
+
+        List<Future<?>> workers = new ArrayList<>(threadCount);
+        for (int t = 0; t < threadCount; t++) {
+            workers.add(pool.submit(() -> {
+                LevelSimulation simulation = simulations.get();
+                int start;
+                while ((start = next.getAndAdd(BATCH_SIZE)) < count) {
+                    int end = Math.min(start + BATCH_SIZE, count);
+                    for (int i = start; i < end; i++) {
+                        evaluateShot(simulation, angles[i], powers[i], results, i * RESULT_STRIDE);
+                    }
+                }
+            }));
+        }
+
+        for (Future<?> worker : workers) {
+            try {
+                worker.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while evaluating shots", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Shot evaluation failed", e.getCause());
+            }
+        }
+        return results;
+    }
+
+    private void evaluateShot(LevelSimulation simulation, float angle, float power, int[] results, int offset) {
+        simulation.reset();
+        simulation.launchNextBird(angle, power);
+
+        int steps = 0;
+        while (steps < maxSteps) {
+            simulation.step();
+            steps++;
+            if (simulation.isAtRest()) break;
+        }
+
+        results[offset + PIGS_KILLED] = simulation.getPigsKilled();
+        results[offset + BLOCKS_DESTROYED] = simulation.getBlocksDestroyed();
+        results[offset + STEPS_TO_REST] = steps;
+    }
+
+    public void dispose() {
+        pool.shutdown();
+        try {
+            pool.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (created) {
+            for (LevelSimulation simulation : created) simulation.dispose();
+            created.clear();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.badlogic.drop.sim;
+
+import com.badlogic.gdx.physics.box2d.BodyDef;
+
+/** Physics and gameplay state of a bird. */
+public class SimBird extends SimEntity {
+    public static final float HALF_SIZE = 0.15f; // Half of the box edge in meters
+    static final float REMOVAL_DELAY = 2.0f; // Delay in seconds after stopping
+    public static final float BULLET_SPEED = 5f; // m/s; faster birds get continuous collision against blocks
+
+    private static final BodySpec BODY = BodySpec.box(BodyDef.BodyType.DynamicBody, HALF_SIZE, HALF_SIZE,
+        1f, 0.5f, 0.3f, CollisionBits.BIRD, CollisionBits.BIRD_MASK); // Less bounciness for realistic physics
+
+    public SimBird(float x, float y, PhysicsWorld physics, EntityStore store) {
+        super(store, EntityType.BIRD, physics.obtainBody(BODY, x, y), 0, Float.POSITIVE_INFINITY, 0f); // Birds don't break
+    }
+
+    public boolean isLaunched() {
+        return hasFlag(EntityStore.LAUNCHED);
+    }
+
+    // The body follows at the next flush; the store has the new position right away
+    public void moveToSlingshot(float x, float y) {
+        store.place(getSlot(), x, y, getAngle()); // Move to the new position, no blending while the bird is held
+        store.commands.setType(body, BodyDef.BodyType.KinematicBody); // Temporarily disable physics
+        setFlag(EntityStore.KINEMATIC, true);
+    }
+
+    public void updatePosition(float x, float y) {
+        store.place(getSlot(), x, y, 0); // No blending while the bird is dragged
+    }
+
+    public void launch(float velocityX, float velocityY) {
+        store.commands.setType(body, BodyDef.BodyType.DynamicBody); // Re-enable physics
+        setFlag(EntityStore.KINEMATIC, false);
+        store.commands.setVelocity(body, velocityX, velocityY); // Set the launch velocity
+        setFlag(EntityStore.LAUNCHED, true);
+    }
+
+    public void setCollided() {
+        setFlag(EntityStore.COLLIDED, true);
+    }
+
+    public boolean hasCollided() {
+        return hasFlag(EntityStore.COLLIDED);
+    }
+
+    public boolean isBullet() {
+        return hasFlag(EntityStore.BULLET);
+    }
+}
@@ -0,0 +1,47 @@
+package com.badlogic.drop.sim;
+
+import com.badlogic.gdx.physics.box2d.BodyDef;
+
+/** Physics and gameplay state of a block. */
+public class SimBlock extends SimEntity {
+    private final Material material;
+    private final float width, height;
+
+    public SimBlock(Material material, float x, float y, float width, float height, PhysicsWorld physics, EntityStore store, int health) {
+        super(store, EntityType.BLOCK, physics.obtainBody(bodySpec(width, height), x, y), health,
+            material.getImpulseThreshold(), material.getDamagePerImpulse());
+        this.material = material;
+        this.width = width;
+        this.height = height;
+    }
+
+    // Every block is the same wood-like box as far as Box2D is concerned; only its size differs
+    private static BodySpec bodySpec(float width, float height) {
+        return BodySpec.box(BodyDef.BodyType.DynamicBody, width / 2, height / 2, 1.0f, 0.8f, 0.0f,
+            CollisionBits.BLOCK, CollisionBits.BLOCK_MASK);
+    }
+
+    public Material getMaterial() {
+        return material;
+    }
+
+    public float getWidth() {
+        return width;
+    }
+
+    public float getHeight() {
+        return height;
+    }
+
+    public void takeDamage(int damage) {
+        store.damage(row(), damage);
+    }
+
+    public int getHealth() {
+        return store.health[row()];
+    }
+
+    public boolean isDestroyed() {
+        return hasFlag(EntityStore.BROKEN);
+    }
+}
@@ -0,0 +1,88 @@
+package com.badlogic.drop.sim;
+
+import com.badlogic.gdx.physics.box2d.Body;
+
+/**
+ * A bird, pig or block as seen from outside the simulation. All of its state lives in a row of the level's
+ * {@link EntityStore}; this only remembers the slot and the body, so holding on to one costs nothing per step.
+ */
+public abstract class SimEntity {
+    protected final EntityStore store;
+    private final EntityType type;
+    private final int slot; // Stable index in the store, used by per-entity arrays
+    protected final Body body;
+
+    protected SimEntity(EntityStore store, EntityType type, Body body, int health, float impulseThreshold, float damagePerImpulse) {
+        this.store = store;
+        this.type = type;
+        this.body = body;
+        this.slot = store.add(type, body, health, impulseThreshold, damagePerImpulse);
+    }
+
+    public EntityType getType() {
+        return type;
+    }
+
+    public int getSlot() {
+        return slot;
+    }
+
+    // Where the entity's state sits in the store right now; rows move when entities are removed
+    protected int row() {
+        return store.rowOf(slot);
+    }
+
+    public Body getBody() {
+        return body;
+    }
+
+    public boolean isRemoved() {
+        return !store.isLive(slot);
+    }
+
+    public boolean isAwake() {
+        return (store.flags[row()] & EntityStore.AWAKE) != 0;
+    }
+
+    public float getX() {
+        return store.x[row()];
+    }
+
+    public float getY() {
+        return store.y[row()];
+    }
+
+    public float getAngle() {
+        return store.angle[row()];
+    }
+
+    // True while the last step moved the entity, i.e. interpolation still changes where it is drawn
+    public boolean isMoving() {
+        return store.isMoving(row());
+    }
+
+    public int getTransformVersion() {
+        return store.versions[row()];
+    }
+
+    public float getInterpolatedX(float alpha) {
+        return store.getInterpolatedX(row(), alpha);
+    }
+
+    public float getInterpolatedY(float alpha) {
+        return store.getInterpolatedY(row(), alpha);
+    }
+
+    public float getInterpolatedAngle(float alpha) {
+        return store.getInterpolatedAngle(row(), alpha);
+    }
+
+    protected boolean hasFlag(int flag) {
+        return (store.flags[row()] & flag) != 0;
+    }
+
+    protected void setFlag(int flag, boolean on) {
+        int row = row();
+        store.flags[row] = on ? store.flags[row] | flag : store.flags[row] & ~flag;
+    }
+}
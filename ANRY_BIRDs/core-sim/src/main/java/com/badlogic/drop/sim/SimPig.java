@@ -0,0 +1,24 @@
+package com.badlogic.drop.sim;
+
+import com.badlogic.gdx.physics.box2d.BodyDef;
+
+/** Physics and gameplay state of a pig. */
+public class SimPig extends SimEntity {
+    public static final float RADIUS = 0.2f;
+    static final float REMOVAL_DELAY = 1.0f; // Seconds a dead pig stays in the world
+
+    public SimPig(float x, float y, float damping, PhysicsWorld physics, EntityStore store, int initialHealth) {
+        super(store, EntityType.PIG, physics.obtainBody(bodySpec(damping), x, y), initialHealth,
+            DamageRules.PIG_IMPULSE_THRESHOLD, DamageRules.PIG_DAMAGE_PER_IMPULSE);
+    }
+
+    // Damping reduces sliding and rotation
+    private static BodySpec bodySpec(float damping) {
+        return BodySpec.circle(BodyDef.BodyType.DynamicBody, RADIUS, 0.5f, 0.5f, 0f, damping,
+            CollisionBits.PIG, CollisionBits.PIG_MASK);
+    }
+
+    public void takeDamage(int damage) {
+        store.damage(row(), damage);
+    }
+}
@@ -0,0 +1,141 @@
+package com.badlogic.drop.sim;
+
+import java.util.Arrays;
+
+/**
+ * Which blocks and pigs touch each other and the ground, kept up to date from begin/end contact events.
+ * An entity is supported while a chain of touching entities connects it to the ground. When a block is
+ * destroyed only its former neighbours are walked, and each walk stops as soon as it reaches something
+ * grounded, so the rest of a tower is never looked at.
+ */
+final class SupportGraph {
+    private static final int INITIAL_DEGREE = 4;
+
+    private int[][] neighbours = new int[0][]; // Touching slots per slot; a pair appears once per contact
+    private int[] degree = new int[0];
+    private int[] groundContacts = new int[0];
+    private int[] visited = new int[0]; // Walk that last reached each slot
+    private int walk = 0;
+    private int[] queue = new int[0];
+    private int[] unsupported = new int[0];
+    private int unsupportedCount = 0;
+    private int detached = -1, formerCount = 0; // Last detached slot and how many slots it touched
+
+    // Size for a level's entities and forget every contact; called whenever the world is rebuilt
+    void resize(int entityCount) {
+        neighbours = new int[entityCount][INITIAL_DEGREE];
+        degree = new int[entityCount];
+        groundContacts = new int[entityCount];
+        visited = new int[entityCount];
+        walk = 0;
+        queue = new int[entityCount];
+        unsupported = new int[entityCount];
+        unsupportedCount = 0;
+        detached = -1;
+        formerCount = 0;
+    }
+
+    void connect(int slotA, int slotB) {
+        addEdge(slotA, slotB);
+        addEdge(slotB, slotA);
+    }
+
+    void disconnect(int slotA, int slotB) {
+        removeEdge(slotA, slotB);
+        removeEdge(slotB, slotA);
+    }
+
+    void touchGround(int slot) {
+        groundContacts[slot]++;
+    }
+
+    void leaveGround(int slot) {
+        if (groundContacts[slot] > 0) groundContacts[slot]--;
+    }
+
+    // Take a destroyed entity out of the graph and collect everything that was only held up through it.
+    // What it touched and what lost support stay readable until the next detach.
+    void detach(int slot) {
+        unsupportedCount = 0;
+        detached = slot;
+        int[] former = neighbours[slot];
+        formerCount = degree[slot];
+        for (int i = 0; i < formerCount; i++) removeEdge(former[i], slot);
+        degree[slot] = 0;
+        groundContacts[slot] = 0;
+
+        int firstWalk = walk + 1;
+        for (int i = 0; i < formerCount; i++) {
+            int start = former[i];
+            if (visited[start] < firstWalk) walkFrom(start, firstWalk);
+        }
+    }
+
+    // Contacts with the ground, and with other blocks and pigs, that the slot has right now
+    int getGroundContacts(int slot) {
+        return groundContacts[slot];
+    }
+
+    int getDegree(int slot) {
+        return degree[slot];
+    }
+
+    int getFormerNeighbourCount() {
+        return formerCount;
+    }
+
+    int getFormerNeighbour(int index) {
+        return neighbours[detached][index];
+    }
+
+    int getUnsupportedCount() {
+        return unsupportedCount;
+    }
+
+    int getUnsupported(int index) {
+        return unsupported[index];
+    }
+
+    // Breadth-first from start. Reaching the ground, or a slot an earlier walk of this detach already found
+    // grounded, ends the walk early; only a walk that runs out of slots has found an unsupported group.
+    private void walkFrom(int start, int firstWalk) {
+        walk++;
+        int head = 0, tail = 0;
+        queue[tail++] = start;
+        visited[start] = walk;
+
+        while (head < tail) {
+            int slot = queue[head++];
+            if (groundContacts[slot] > 0) return;
+
+            int[] adjacent = neighbours[slot];
+            for (int i = 0, n = degree[slot]; i < n; i++) {
+                int next = adjacent[i];
+                if (visited[next] == walk) continue;
+                if (visited[next] >= firstWalk) return; // An earlier walk only stops early when it is grounded
+                visited[next] = walk;
+                queue[tail++] = next;
+            }
+        }
+
+        for (int i = 0; i < tail; i++) unsupported[unsupportedCount++] = queue[i];
+    }
+
+    private void addEdge(int from, int to) {
+        if (degree[from] == neighbours[from].length) {
+            neighbours[from] = Arrays.copyOf(neighbours[from], degree[from] * 2);
+        }
+        neighbours[from][degree[from]++] = to;
+    }
+
+    private void removeEdge(int from, int to) {
+        int[] adjacent = neighbours[from];
+        for (int i = 0, n = degree[from]; i < n; i++) {
+            if (adjacent[i] == to) {
+                adjacent[i] = adjacent[n - 1];
+                degree[from]--;
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.badlogic.drop.sim;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector2;
+
+/**
+ * The flight path shown while a bird is pulled back. The aim is rounded to a small grid of angles and powers,
+ * and the points of recently seen aims are kept in a fixed table, so holding or wiggling the aim costs a
+ * lookup instead of a new path. Points are integrated the way Box2D moves an undamped body at the fixed
+ * timestep, under the world's gravity. Nothing is allocated after construction.
+ */
+public final class TrajectoryPreview {
+    public static final int MAX_POINTS = 30;
+    private static final int STEPS_PER_POINT = 6; // One point every 0.1 s of flight at the fixed timestep
+    private static final float ANGLE_STEP = 0.25f; // Degrees
+    private static final float POWER_STEP = 0.05f; // m/s
+    private static final int TABLE_SIZE = 64; // Cached aims, a power of two
+
+    // Per table entry: the quantized aim it holds, its point count, and x/y pairs in points
+    private final int[] keys = new int[TABLE_SIZE];
+    private final int[] counts = new int[TABLE_SIZE];
+    private final float[] points = new float[TABLE_SIZE * MAX_POINTS * 2];
+    private final Vector2 temp = new Vector2();
+    private float gravityX, gravityY;
+    private int current = -1; // Table entry of the last update
+    private int pathVersion = 0; // Bumped whenever update() switches to a different path
+
+    private long computed = 0, reused = 0;
+
+    public TrajectoryPreview() {
+        clear();
+    }
+
+    // Make the points for this aim (degrees, m/s) current and return how many there are
+    public int update(float angle, float power, Vector2 gravity) {
+        if (gravity.x != gravityX || gravity.y != gravityY) { // Every cached path is wrong now
+            gravityX = gravity.x;
+            gravityY = gravity.y;
+            clear();
+        }
+
+        int angleIndex = MathUtils.round(angle / ANGLE_STEP);
+        int powerIndex = MathUtils.round(power / POWER_STEP);
+        int key = (angleIndex << 16) | (powerIndex & 0xFFFF);
+        int entry = (angleIndex * 31 + powerIndex) & (TABLE_SIZE - 1);
+        if (keys[entry] == key) {
+            if (entry != current) pathVersion++;
+            current = entry;
+            reused++;
+            return counts[entry];
+        }
+        current = entry;
+        pathVersion++;
+
+        keys[entry] = key;
+        counts[entry] = integrate(angleIndex * ANGLE_STEP, powerIndex * POWER_STEP, entry * MAX_POINTS * 2);
+        computed++;
+        return counts[entry];
+    }
+
+    // Same start and velocity as a launch from this aim, see LaunchModel
+    private int integrate(float angle, float power, int offset) {
+        LaunchModel.pullPosition(angle, power, temp);
+        float x = temp.x, y = temp.y;
+        LaunchModel.launchVelocity(power, angle, temp);
+        float velocityX = temp.x, velocityY = temp.y;
+        float h = PhysicsStepper.TIMESTEP;
+
+        int count = 0;
+        while (count < MAX_POINTS && y >= 0) { // Stop at the bottom of the world
+            points[offset + count * 2] = x;
+            points[offset + count * 2 + 1] = y;
+            count++;
+            for (int i = 0; i < STEPS_PER_POINT; i++) { // Velocity first, then position with the new velocity
+                velocityX += gravityX * h;
+                velocityY += gravityY * h;
+                x += velocityX * h;
+                y += velocityY * h;
+            }
+        }
+        return count;
+    }
+
+    private void clear() {
+        for (int i = 0; i < TABLE_SIZE; i++) keys[i] = Integer.MIN_VALUE; // No aim rounds to this
+        current = -1;
+    }
+
+    public int getPointCount() {
+        return current < 0 ? 0 : counts[current];
+    }
+
+    // Point i of the current path, in meters
+    public float getX(int i) {
+        return points[current * MAX_POINTS * 2 + i * 2];
+    }
+
+    public float getY(int i) {
+        return points[current * MAX_POINTS * 2 + i * 2 + 1];
+    }
+
+    int getPathVersion() {
+        return pathVersion;
+    }
+
+    // How many updates had to integrate a path vs. found it in the table
+    public long getComputed() {
+        return computed;
+    }
+
+    public long getReused() {
+        return reused;
+    }
+}
@@ -0,0 +1,150 @@
+package com.badlogic.drop.sim;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Fixture;
+import com.badlogic.gdx.physics.box2d.RayCastCallback;
+import com.badlogic.gdx.physics.box2d.World;
+
+/**
+ * Where the previewed path first runs into the scene, found by casting a ray along each of its segments
+ * against the live world. Rays are cast a few per frame, within a time budget, carrying on where the last
+ * frame stopped, so a dense level can take a few frames to answer but never makes one slow. The answer is
+ * kept until the aim changes or a block or pig moves; birds are looked through.
+ */
+public final class TrajectoryProbe {
+    private final LevelSimulation simulation;
+    private final EntityStore store;
+    private final RayCastCallback callback = this::reportRayFixture;
+
+    private int pathVersion = -1; // Path the progress below belongs to
+    private long sceneVersion = -1; // Block and pig transforms it was cast against
+    private int nextSegment = 0; // First segment not cast yet
+    private boolean resolved = false;
+
+    // First impact: the segment it is on, where, and what was hit (-1 for the ground or a wall)
+    private int hitSegment = -1;
+    private float hitX, hitY;
+    private int hitSlot = -1;
+
+    // Closest fixture along the ray being cast
+    private float closestFraction;
+    private float closestX, closestY;
+    private int closestSlot;
+    private boolean closestFound;
+
+    private int raysLastUpdate = 0;
+    private long raysTotal = 0;
+
+    public TrajectoryProbe(LevelSimulation simulation) {
+        this.simulation = simulation;
+        this.store = simulation.getStore();
+    }
+
+    // Cast rays along the preview's current path until it is resolved or budgetNanos have passed.
+    // At least one ray is cast per call, so a tiny budget still gets there.
+    public void update(TrajectoryPreview preview, long budgetNanos) {
+        long scene = sceneVersion();
+        if (preview.getPathVersion() != pathVersion || scene != sceneVersion) {
+            pathVersion = preview.getPathVersion();
+            sceneVersion = scene;
+            nextSegment = 0;
+            resolved = false;
+            hitSegment = hitSlot = -1;
+        }
+
+        raysLastUpdate = 0;
+        if (resolved) return;
+        World world = simulation.getWorld(); // reset() replaces it
+        long deadline = System.nanoTime() + budgetNanos;
+        int segments = preview.getPointCount() - 1;
+        while (nextSegment < segments) {
+            int i = nextSegment++;
+            float x1 = preview.getX(i), y1 = preview.getY(i), x2 = preview.getX(i + 1), y2 = preview.getY(i + 1);
+            if (x1 == x2 && y1 == y2) continue; // Box2D asserts on zero-length rays
+
+            closestFound = false;
+            closestFraction = 1f;
+            world.rayCast(callback, x1, y1, x2, y2);
+            raysLastUpdate++;
+            raysTotal++;
+            if (closestFound) {
+                hitSegment = i;
+                hitX = closestX;
+                hitY = closestY;
+                hitSlot = closestSlot;
+                break;
+            }
+            if (System.nanoTime() >= deadline) return;
+        }
+        resolved = true;
+    }
+
+    // Box2D reports fixtures along the ray in no particular order; returning the fraction clips the ray there
+    private float reportRayFixture(Fixture fixture, Vector2 point, Vector2 normal, float fraction) {
+        if (fixture.isSensor()) return -1;
+        Object userData = fixture.getBody().getUserData();
+        int slot = -1;
+        if (userData != null) {
+            int row = store.liveRow((Integer) userData);
+            if (row < 0 || store.types[row] == EntityType.BIRD) return -1; // Removed, or a bird in the way
+            slot = store.slots[row];
+        }
+        if (fraction < closestFraction) {
+            closestFraction = fraction;
+            closestX = point.x;
+            closestY = point.y;
+            closestSlot = slot;
+            closestFound = true;
+        }
+        return fraction;
+    }
+
+    // Changes whenever a block or pig moves, appears or goes away
+    private long sceneVersion() {
+        long version = store.getLiveCount();
+        for (int row = 0, n = store.getLiveCount(); row < n; row++) {
+            if (store.types[row] != EntityType.BIRD) version = version * 31 + store.versions[row];
+        }
+        return version;
+    }
+
+    // All segments up to the first impact have been cast
+    public boolean isResolved() {
+        return resolved;
+    }
+
+    public boolean hasHit() {
+        return hitSegment >= 0;
+    }
+
+    // Points of the path before the impact, or the whole path while none was found
+    public int getClearPointCount(TrajectoryPreview preview) {
+        return hitSegment >= 0 ? hitSegment + 1 : preview.getPointCount();
+    }
+
+    public float getHitX() {
+        return hitX;
+    }
+
+    public float getHitY() {
+        return hitY;
+    }
+
+    // Slot of the block or pig the path runs into, or -1 for the ground, a wall or no hit
+    public int getHitSlot() {
+        return hitSlot;
+    }
+
+    // Type of what was hit, or null for the ground, a wall or no hit
+    public EntityType getHitType() {
+        return hitSlot >= 0 ? store.types[store.rowOf(hitSlot)] : null;
+    }
+
+    public int getRaysLastUpdate() {
+        return raysLastUpdate;
+    }
+
+    public long getRaysTotal() {
+        return raysTotal;
+    }
+}
@@ -0,0 +1,129 @@
+package com.badlogic.drop.sim;
+
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import java.util.Arrays;
+
+/**
+ * Changes to bodies that game rules and input ask for while the level is running, queued in preallocated
+ * arrays and applied in order by {@link #flush()}. The simulation flushes right before each world step and
+ * before it reads or overwrites the whole world (snapshots), so no body changes under a pass that is
+ * iterating entities or inside a Box2D callback, and all mutation cost shows up in one place.
+ */
+final class WorldCommands {
+    private static final int INITIAL_CAPACITY = 32;
+    private static final int ARGS = 3; // Floats reserved per command
+
+    private static final byte DEACTIVATE = 0;
+    private static final byte WAKE = 1;
+    private static final byte SET_TRANSFORM = 2; // x, y, angle
+    private static final byte SET_TYPE = 3; // BodyType ordinal
+    private static final byte SET_VELOCITY = 4; // x, y
+
+    private static final BodyDef.BodyType[] BODY_TYPES = BodyDef.BodyType.values();
+
+    private byte[] ops = new byte[INITIAL_CAPACITY];
+    private Body[] bodies = new Body[INITIAL_CAPACITY];
+    private float[] args = new float[INITIAL_CAPACITY * ARGS];
+    private int size = 0;
+
+    private long flushed = 0; // Commands applied so far
+    private long flushNanos = 0; // Time spent applying them
+
+    // Take the body out of the world; Box2D reports its ended contacts when this is flushed
+    void deactivate(Body body) {
+        add(DEACTIVATE, body, 0, 0, 0);
+    }
+
+    void wake(Body body) {
+        add(WAKE, body, 0, 0, 0);
+    }
+
+    void setTransform(Body body, float x, float y, float angle) {
+        add(SET_TRANSFORM, body, x, y, angle);
+    }
+
+    void setType(Body body, BodyDef.BodyType type) {
+        add(SET_TYPE, body, type.ordinal(), 0, 0);
+    }
+
+    void setVelocity(Body body, float x, float y) {
+        add(SET_VELOCITY, body, x, y, 0);
+    }
+
+    private void add(byte op, Body body, float a, float b, float c) {
+        if (size == ops.length) grow();
+        ops[size] = op;
+        bodies[size] = body;
+        int arg = size * ARGS;
+        args[arg] = a;
+        args[arg + 1] = b;
+        args[arg + 2] = c;
+        size++;
+    }
+
+    int size() {
+        return size;
+    }
+
+    // Apply every queued command in the order it was queued. Must not be called from inside world.step.
+    void flush() {
+        if (size == 0) return;
+
+        long start = System.nanoTime();
+        for (int i = 0; i < size; i++) {
+            Body body = bodies[i];
+            int arg = i * ARGS;
+            switch (ops[i]) {
+                case DEACTIVATE:
+                    body.setActive(false);
+                    break;
+                case WAKE:
+                    body.setAwake(true);
+                    break;
+                case SET_TRANSFORM:
+                    body.setTransform(args[arg], args[arg + 1], args[arg + 2]);
+                    break;
+                case SET_TYPE:
+                    body.setType(BODY_TYPES[(int) args[arg]]);
+                    break;
+                case SET_VELOCITY:
+                    body.setLinearVelocity(args[arg], args[arg + 1]);
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown world command " + ops[i]);
+            }
+            bodies[i] = null;
+        }
+        flushed += size;
+        flushNanos += System.nanoTime() - start;
+        size = 0;
+    }
+
+    // Drop everything queued; the bodies belong to a world that is going away
+    void clear() {
+        Arrays.fill(bodies, 0, size, null);
+        size = 0;
+    }
+
+    void resetCounters() {
+        flushed = 0;
+        flushNanos = 0;
+    }
+
+    long getFlushed() {
+        return flushed;
+    }
+
+    long getFlushNanos() {
+        return flushNanos;
+    }
+
+    // Only happens the first time a level queues this many changes between two steps
+    private void grow() {
+        int capacity = ops.length * 2;
+        ops = Arrays.copyOf(ops, capacity);
+        bodies = Arrays.copyOf(bodies, capacity);
+        args = Arrays.copyOf(args, capacity * ARGS);
+    }
+}
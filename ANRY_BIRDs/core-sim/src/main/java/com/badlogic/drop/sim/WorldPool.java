@@ -0,0 +1,34 @@
+package com.badlogic.drop.sim;
+
+import com.badlogic.gdx.utils.Disposable;
+import java.util.ArrayList;
+
+/**
+ * Worlds left behind by finished levels, with their bodies parked, for the next level to take over.
+ * One pool serves a whole game; levels that replay shots from a fresh world (see
+ * {@link LevelSimulation#reset()}) still hand their worlds back here.
+ */
+public final class WorldPool implements Disposable {
+    private static final int MAX_IDLE = 1; // Only one level runs at a time
+
+    private final ArrayList<PhysicsWorld> idle = new ArrayList<>();
+
+    public synchronized PhysicsWorld obtain() {
+        return idle.isEmpty() ? new PhysicsWorld() : idle.remove(idle.size() - 1);
+    }
+
+    public synchronized void free(PhysicsWorld physics) {
+        physics.recycle();
+        if (idle.size() < MAX_IDLE) {
+            idle.add(physics);
+        } else {
+            physics.dispose();
+        }
+    }
+
+    @Override
+    public synchronized void dispose() {
+        for (PhysicsWorld physics : idle) physics.dispose();
+        idle.clear();
+    }
+}
@@ -1,8 +1,13 @@
 
 package com.badlogic.drop;
 
+import com.badlogic.drop.sim.WorldPool;
 import com.badlogic.gdx.Game;
+import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.GdxRuntimeException;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.audio.Sound;
@@ -10,12 +15,37 @@ import com.badlogic.gdx.audio.Sound;
 public class AngryBird extends Game {
     private SpriteBatch batch;
     private Sound backgroundSound;
+    private final WorldPool worldPool = new WorldPool(); // Physics worlds and bodies handed from one level to the next
+    private final Assets assets = new Assets(Assets.DEFAULT_BUDGET); // Textures, fonts, skins and music shared by the screens
+    private TextureAtlas atlas; // Every level sprite on one texture, packed from sprites/game by the packTextures task
+    private Skin skin;
+    private final LevelRouter router = new LevelRouter(this); // Level order and prefetching of the next one
+    private final String debugLayers;
+    private final int startLevel;
+    private DebugOverlay debugOverlay;
+
+    public AngryBird() {
+        this(null, 0);
+    }
+
+    // debugLayers: debug overlay layers to show from the start, see DebugOverlay; null to start without.
+    // startLevel: level to open instead of the home screen, e.g. LevelLayouts.WIDE_LEVEL; 0 for the home screen.
+    public AngryBird(String debugLayers, int startLevel) {
+        this.debugLayers = debugLayers;
+        this.startLevel = startLevel;
+    }
 
     @Override
     public void create() {
         batch = new SpriteBatch();
-        Skin skin = new Skin(Gdx.files.internal("uiskin.json"));
-        this.setScreen(new HomeScreen(this, skin)); // Directly set to HomeScreen
+        debugOverlay = new DebugOverlay(debugLayers);
+        atlas = assets.acquire("atlas/game.atlas", TextureAtlas.class);
+        skin = assets.acquire("uiskin.json", Skin.class);
+        if (startLevel > 0) {
+            router.open(startLevel);
+        } else {
+            this.setScreen(new HomeScreen(this, skin)); // Directly set to HomeScreen
+        }
         backgroundSound = Gdx.audio.newSound(Gdx.files.internal("angry_birds.mp3"));
         backgroundSound.loop();
     }
@@ -24,9 +54,48 @@ public class AngryBird extends Game {
     public void dispose() {
         batch.dispose();
         backgroundSound.dispose();
+        router.dispose(); // Before the pool: a prefetch may still be using it
+        debugOverlay.dispose();
+        worldPool.dispose();
+        assets.dispose();
+    }
+
+    @Override
+    public void setScreen(Screen screen) {
+        super.setScreen(screen);
+        Gdx.app.debug("Assets", assets.report());
     }
 
     public SpriteBatch getBatch() {
         return batch;
     }
+
+    // A sprite image from the game atlas, by its file name without extension
+    public TextureRegion findRegion(String name) {
+        TextureRegion region = atlas.findRegion(name);
+        if (region == null) throw new GdxRuntimeException("No region " + name + " in the game atlas");
+        return region;
+    }
+
+    public Assets getAssets() {
+        return assets;
+    }
+
+    // The UI skin every menu screen shares
+    public Skin getSkin() {
+        return skin;
+    }
+
+    // Shared by the level screens, so the chosen layers stay on from one level to the next
+    public DebugOverlay getDebugOverlay() {
+        return debugOverlay;
+    }
+
+    public LevelRouter getRouter() {
+        return router;
+    }
+
+    public WorldPool getWorldPool() {
+        return worldPool;
+    }
 }
@@ -0,0 +1,212 @@
+package com.badlogic.drop;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.ObjectSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+/**
+ * Textures, fonts, skins and audio shared by every screen, loaded through one {@link AssetManager}.
+ * Screens acquire what they draw and release it when they are disposed; an asset nobody uses any more
+ * stays loaded, so the next screen that wants it gets it for free, until the loaded total goes over the
+ * memory budget and the assets released longest ago are unloaded first. Assets can also be queued ahead
+ * of time and loaded a slice per frame with {@link #update(int)}: the AssetManager decodes files on its
+ * own thread and only uploads to GL on ours. Only call it from the render thread.
+ */
+public class Assets implements Disposable {
+    public static final long DEFAULT_BUDGET = 96L * 1024 * 1024; // Bytes
+
+    private static final class Entry {
+        final String path;
+        final Class<?> type;
+        final long bytes; // Estimated memory held by the asset, see sizeOf
+        int users = 0;
+
+        Entry(String path, Class<?> type, long bytes) {
+            this.path = path;
+            this.type = type;
+            this.bytes = bytes;
+        }
+    }
+
+    private final AssetManager manager = new AssetManager();
+    private final ObjectMap<String, Entry> entries = new ObjectMap<>();
+    private final LinkedHashMap<String, Entry> idle = new LinkedHashMap<>(); // Loaded but unused, longest unused first
+    private final ObjectMap<String, Class<?>> queued = new ObjectMap<>(); // Queued by queue() and not yet counted
+    private long budget;
+    private long loadedBytes = 0;
+
+    public Assets(long budget) {
+        this.budget = budget;
+    }
+
+    // Load the asset if it isn't loaded yet and count one more user of it
+    public <T> T acquire(String path, Class<T> type) {
+        Entry entry = entries.get(path);
+        if (entry == null) {
+            if (!manager.contains(path)) manager.load(path, type);
+            manager.finishLoadingAsset(path); // Returns at once if update() already loaded it
+            queued.remove(path);
+            entry = add(path, type);
+        } else if (entry.type != type) {
+            throw new GdxRuntimeException(path + " is loaded as " + entry.type.getSimpleName() + ", not " + type.getSimpleName());
+        }
+        if (entry.users++ == 0) idle.remove(path);
+        return manager.get(path, type);
+    }
+
+    // Start loading the asset in the background without using it yet; update() does the work
+    public void queue(String path, Class<?> type) {
+        if (entries.containsKey(path) || queued.containsKey(path)) return;
+        if (!manager.contains(path)) manager.load(path, type);
+        queued.put(path, type);
+    }
+
+    // Load for at most about the given time, then return; true once everything queued is loaded.
+    // Assets that finish loading count as idle until someone acquires them.
+    public boolean update(int millis) {
+        boolean done = manager.update(millis);
+        for (ObjectMap.Entries<String, Class<?>> iterator = queued.iterator(); iterator.hasNext(); ) {
+            ObjectMap.Entry<String, Class<?>> next = iterator.next();
+            if (!manager.isLoaded(next.key)) continue;
+            Entry entry = add(next.key, next.value);
+            idle.put(entry.path, entry);
+            iterator.remove();
+        }
+        return done;
+    }
+
+    // Nothing queued is still loading
+    public boolean isFinished() {
+        return manager.isFinished();
+    }
+
+    // Share of everything queued since the loader was last idle that has been loaded, 0..1
+    public float getProgress() {
+        return manager.getProgress();
+    }
+
+    private Entry add(String path, Class<?> type) {
+        Entry entry = new Entry(path, type, sizeOf(manager.get(path, type), path));
+        entries.put(path, entry);
+        loadedBytes += entry.bytes;
+        trim(); // Make room among the idle assets
+        return entry;
+    }
+
+    // One user less; an asset without users stays loaded until the budget needs its memory
+    public void release(String path) {
+        Entry entry = entries.get(path);
+        if (entry == null || entry.users == 0) {
+            throw new GdxRuntimeException(path + " was released more often than it was acquired");
+        }
+        if (--entry.users == 0) {
+            idle.put(path, entry);
+            trim();
+        }
+    }
+
+    public void setBudget(long budget) {
+        this.budget = budget;
+        trim();
+    }
+
+    public long getBudget() {
+        return budget;
+    }
+
+    public long getLoadedBytes() {
+        return loadedBytes;
+    }
+
+    // Unload idle assets, longest unused first, until everything loaded fits the budget again.
+    // Assets in use are never unloaded, so the total can stay over budget while they are.
+    private void trim() {
+        Iterator<Entry> iterator = idle.values().iterator();
+        while (loadedBytes > budget && iterator.hasNext()) {
+            Entry entry = iterator.next();
+            iterator.remove();
+            entries.remove(entry.path);
+            loadedBytes -= entry.bytes;
+            manager.unload(entry.path);
+        }
+    }
+
+    // Every loaded asset with its users and estimated size, biggest first
+    public String report() {
+        Array<Entry> sorted = new Array<>(entries.size);
+        for (Entry entry : entries.values()) sorted.add(entry);
+        sorted.sort((a, b) -> Long.compare(b.bytes, a.bytes));
+
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("%d assets, %.1f of %.1f MB", sorted.size, loadedBytes / 1048576f, budget / 1048576f));
+        for (Entry entry : sorted) {
+            report.append(String.format("%n  %-32s %-12s %2d users %8.1f KB", entry.path, entry.type.getSimpleName(),
+                entry.users, entry.bytes / 1024f));
+        }
+        return report.toString();
+    }
+
+    // GPU memory of the textures behind an asset; audio is counted by the size of its file
+    private static long sizeOf(Object asset, String path) {
+        ObjectSet<Texture> textures = new ObjectSet<>();
+        if (asset instanceof Texture) {
+            textures.add((Texture) asset);
+        } else if (asset instanceof TextureAtlas) {
+            for (Texture texture : ((TextureAtlas) asset).getTextures()) textures.add(texture);
+        } else if (asset instanceof BitmapFont) {
+            for (TextureRegion region : ((BitmapFont) asset).getRegions()) textures.add(region.getTexture());
+        } else if (asset instanceof Skin) {
+            TextureAtlas atlas = ((Skin) asset).getAtlas();
+            if (atlas != null) {
+                for (Texture texture : atlas.getTextures()) textures.add(texture);
+            }
+        } else {
+            return Gdx.files.internal(path).length();
+        }
+
+        long bytes = 0;
+        for (Texture texture : textures) {
+            bytes += (long) texture.getWidth() * texture.getHeight() * bytesPerPixel(texture.getTextureData().getFormat());
+        }
+        return bytes;
+    }
+
+    private static int bytesPerPixel(Pixmap.Format format) {
+        if (format == null) return 4;
+        switch (format) {
+            case Alpha:
+            case Intensity:
+                return 1;
+            case LuminanceAlpha:
+            case RGB565:
+            case RGBA4444:
+                return 2;
+            case RGB888:
+                return 3;
+            case RGBA8888:
+            default:
+                return 4;
+        }
+    }
+
+    @Override
+    public void dispose() {
+        manager.dispose();
+        entries.clear();
+        idle.clear();
+        queued.clear();
+        loadedBytes = 0;
+    }
+}
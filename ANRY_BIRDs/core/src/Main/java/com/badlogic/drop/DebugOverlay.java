@@ -0,0 +1,138 @@
+package com.badlogic.drop;
+
+import com.badlogic.drop.sim.EntityStore;
+import com.badlogic.drop.sim.EntityType;
+import com.badlogic.drop.sim.LevelSimulation;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.physics.box2d.Box2DDebugRenderer;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.viewport.Viewport;
+import java.util.EnumSet;
+import java.util.Locale;
+
+/**
+ * Physics drawings over a level for tuning and bug hunting, off unless asked for. F3 shows or hides the
+ * overlay and F4 to F8 switch single layers; the launcher can also turn layers on at startup. While it is
+ * hidden nothing is created, drawn or traversed.
+ */
+public class DebugOverlay implements Disposable {
+    public enum Layer {
+        FIXTURES(Input.Keys.F4), // Fixture outlines, shaded by Box2D when the body sleeps
+        AABBS(Input.Keys.F5), // Broadphase bounding boxes
+        CONTACTS(Input.Keys.F6), // Contact points
+        SLEEPING(Input.Keys.F7), // A marker on each entity: green while awake, grey while asleep
+        VALUES(Input.Keys.F8); // Health, damage threshold and support contacts next to each block and pig
+
+        final int key;
+
+        Layer(int key) {
+            this.key = key;
+        }
+    }
+
+    private static final int TOGGLE_KEY = Input.Keys.F3;
+    private static final float MARKER_SIZE = 0.08f; // Meters
+
+    private final EnumSet<Layer> layers = EnumSet.noneOf(Layer.class);
+    private boolean visible;
+
+    // Created the first time the overlay is shown
+    private Box2DDebugRenderer debugRenderer;
+    private ShapeRenderer shapeRenderer;
+    private SpriteBatch textBatch;
+    private final Vector3 screenPosition = new Vector3();
+
+    // layers: comma separated layer names, "all", or null/empty to start hidden
+    public DebugOverlay(String layers) {
+        if (layers == null || layers.trim().isEmpty()) {
+            this.layers.add(Layer.FIXTURES); // What F3 shows when nothing else was asked for
+            return;
+        }
+        for (String name : layers.split(",")) {
+            name = name.trim().toUpperCase(Locale.ROOT);
+            if (name.equals("ALL")) {
+                this.layers.addAll(EnumSet.allOf(Layer.class));
+            } else {
+                this.layers.add(Layer.valueOf(name));
+            }
+        }
+        visible = true;
+    }
+
+    public void handleKeys() {
+        if (Gdx.input.isKeyJustPressed(TOGGLE_KEY)) visible = !visible;
+        if (!visible) return;
+        for (Layer layer : Layer.values()) {
+            if (!Gdx.input.isKeyJustPressed(layer.key)) continue;
+            if (!layers.remove(layer)) layers.add(layer);
+        }
+    }
+
+    public boolean isVisible() {
+        return visible;
+    }
+
+    public void render(LevelSimulation simulation, Viewport viewport, BitmapFont font) {
+        if (!visible || layers.isEmpty()) return;
+        if (debugRenderer == null) {
+            debugRenderer = new Box2DDebugRenderer();
+            shapeRenderer = new ShapeRenderer();
+            textBatch = new SpriteBatch();
+        }
+
+        if (layers.contains(Layer.FIXTURES) || layers.contains(Layer.AABBS) || layers.contains(Layer.CONTACTS)) {
+            debugRenderer.setDrawBodies(layers.contains(Layer.FIXTURES));
+            debugRenderer.setDrawAABBs(layers.contains(Layer.AABBS));
+            debugRenderer.setDrawContacts(layers.contains(Layer.CONTACTS));
+            debugRenderer.render(simulation.getWorld(), viewport.getCamera().combined);
+        }
+        if (layers.contains(Layer.SLEEPING)) drawSleeping(simulation.getStore(), viewport);
+        if (layers.contains(Layer.VALUES)) drawValues(simulation, viewport, font);
+    }
+
+    private void drawSleeping(EntityStore store, Viewport viewport) {
+        shapeRenderer.setProjectionMatrix(viewport.getCamera().combined);
+        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
+        for (int row = 0, n = store.getLiveCount(); row < n; row++) {
+            if (store.isAwake(row)) {
+                shapeRenderer.setColor(0.2f, 0.9f, 0.2f, 1);
+            } else {
+                shapeRenderer.setColor(0.6f, 0.6f, 0.6f, 1);
+            }
+            shapeRenderer.rect(store.getInterpolatedX(row, 1f) - MARKER_SIZE / 2, store.getInterpolatedY(row, 1f) - MARKER_SIZE / 2,
+                MARKER_SIZE, MARKER_SIZE);
+        }
+        shapeRenderer.end();
+    }
+
+    // Text is drawn in screen pixels; the level camera is in meters
+    private void drawValues(LevelSimulation simulation, Viewport viewport, BitmapFont font) {
+        EntityStore store = simulation.getStore();
+        textBatch.getProjectionMatrix().setToOrtho2D(0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+        textBatch.begin();
+        for (int row = 0, n = store.getLiveCount(); row < n; row++) {
+            if (store.getType(row) == EntityType.BIRD) continue;
+            int slot = store.getSlot(row);
+            screenPosition.set(store.getInterpolatedX(row, 1f), store.getInterpolatedY(row, 1f), 0);
+            viewport.project(screenPosition);
+            font.draw(textBatch, "hp " + store.getHealth(row) + " >" + store.getImpulseThreshold(row) + "Ns", screenPosition.x,
+                screenPosition.y + font.getLineHeight());
+            font.draw(textBatch, "ground " + simulation.getGroundContacts(slot) + " touching " + simulation.getSupportContacts(slot),
+                screenPosition.x, screenPosition.y);
+        }
+        textBatch.end();
+    }
+
+    @Override
+    public void dispose() {
+        if (debugRenderer == null) return;
+        debugRenderer.dispose();
+        shapeRenderer.dispose();
+        textBatch.dispose(); // The font belongs to the skin
+    }
+}
@@ -3,7 +3,7 @@ package com.badlogic.drop;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.graphics.GL20;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
@@ -20,7 +20,8 @@ public class HomeScreen implements Screen {
     private Stage stage;
     private TextButton startGameButton;
     private TextButton selectLevelButton;
-    private SpriteBatch spriteBatch;
+    private SpriteCache backgroundCache; // The background fills the window, so it is rebuilt on resize only
+    private int backgroundLayer;
     private Texture backgroundTexture;
     private Skin skin;
     private BitmapFont font;
@@ -30,18 +31,18 @@ public class HomeScreen implements Screen {
     public HomeScreen(final AngryBird game, final Skin skin) {
         this.game = game;
         this.skin = skin;
-        spriteBatch = new SpriteBatch();
-        backgroundTexture = new Texture("home_bg.png");
+        backgroundCache = new SpriteCache(1, false);
+        backgroundTexture = game.getAssets().acquire("home_bg.png", Texture.class);
 
         stage = new Stage(new StretchViewport(800, 600));
         Gdx.input.setInputProcessor(stage);
 
         // Load button icons
-        startGameIcon = new Texture("Start.png");
-        selectLevelIcon = new Texture("levels.png");
+        startGameIcon = game.getAssets().acquire("Start.png", Texture.class);
+        selectLevelIcon = game.getAssets().acquire("levels.png", Texture.class);
 
         // Load the font
-        font = new BitmapFont(Gdx.files.internal("default.fnt"));
+        font = game.getAssets().acquire("default.fnt", BitmapFont.class);
 
         // Create buttons
         selectLevelButton = createButton("", selectLevelIcon, 80); // Positioned closer to the bottom
@@ -51,7 +52,7 @@ public class HomeScreen implements Screen {
         startGameButton.addListener(new ClickListener() {
             @Override
             public void clicked(InputEvent event, float x, float y) {
-                game.setScreen(new Level1Screen(game));
+                game.getRouter().open(1);
             }
         });
 
@@ -87,9 +88,9 @@ public class HomeScreen implements Screen {
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
 
         // Draw background
-        spriteBatch.begin();
-        spriteBatch.draw(backgroundTexture, 0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
-        spriteBatch.end();
+        backgroundCache.begin();
+        backgroundCache.draw(backgroundLayer);
+        backgroundCache.end();
 
         // Draw the stage with buttons
         stage.act();
@@ -99,13 +100,21 @@ public class HomeScreen implements Screen {
     @Override
     public void resize(int width, int height) {
         stage.getViewport().update(width, height, true);
+
+        backgroundCache.clear();
+        backgroundCache.beginCache();
+        backgroundCache.add(new TextureRegion(backgroundTexture), 0, 0, width, height);
+        backgroundLayer = backgroundCache.endCache();
+        backgroundCache.getProjectionMatrix().setToOrtho2D(0, 0, width, height);
     }
 
     @Override
     public void show() { }
 
     @Override
-    public void hide() { }
+    public void hide() {
+        dispose(); // A new home screen is made every time we come back here
+    }
 
     @Override
     public void pause() { }
@@ -117,10 +126,10 @@ public class HomeScreen implements Screen {
     public void dispose() {
         // Dispose resources
         stage.dispose();
-        spriteBatch.dispose();
-        backgroundTexture.dispose();
-        startGameIcon.dispose();
-        selectLevelIcon.dispose();
-        font.dispose(); // Dispose the font
+        backgroundCache.dispose();
+        game.getAssets().release("home_bg.png"); // The cache decides when the textures and font go
+        game.getAssets().release("Start.png");
+        game.getAssets().release("levels.png");
+        game.getAssets().release("default.fnt");
     }
 }
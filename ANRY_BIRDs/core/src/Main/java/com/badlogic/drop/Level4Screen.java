@@ -0,0 +1,13 @@
+package com.badlogic.drop;
+
+import com.badlogic.drop.sim.LevelSimulation;
+
+public class Level4Screen extends LevelScreen {
+    public Level4Screen(AngryBird game) {
+        super(game, 4);
+    }
+
+    public Level4Screen(AngryBird game, LevelSimulation simulation) {
+        super(game, 4, simulation);
+    }
+}
@@ -0,0 +1,84 @@
+package com.badlogic.drop;
+
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
+
+/**
+ * Moves a level's camera over levels wider than the screen. It rests on the slingshot, follows the launched
+ * bird and whatever it sets in motion, and zooms out until all of that fits, easing towards where it should be
+ * instead of jumping. The view stays inside the level with its bottom on the ground, so a level no bigger
+ * than the screen never moves.
+ */
+public class LevelCamera {
+    private static final float MAX_ZOOM = 2f;
+    private static final float MARGIN = 1.5f; // Meters kept around the action
+    private static final float EASING = 3f; // Share of the remaining distance closed per second, roughly
+
+    private final OrthographicCamera camera;
+    private final float levelWidth, levelHeight;
+    private final float viewWidth, viewHeight; // At zoom 1
+    private final float maxZoom;
+
+    private float targetX, targetZoom = 1f;
+    private float x, zoom = 1f;
+    private final Rectangle view = new Rectangle(); // Visible part of the level, in meters
+
+    public LevelCamera(OrthographicCamera camera, float levelWidth, float levelHeight, float viewWidth, float viewHeight) {
+        this.camera = camera;
+        this.levelWidth = levelWidth;
+        this.levelHeight = levelHeight;
+        this.viewWidth = viewWidth;
+        this.viewHeight = viewHeight;
+        this.maxZoom = Math.max(1f, Math.min(MAX_ZOOM, Math.min(levelWidth / viewWidth, levelHeight / viewHeight)));
+        home();
+        snap();
+    }
+
+    // Aim for the slingshot end of the level at the normal zoom
+    public void home() {
+        targetX = viewWidth / 2;
+        targetZoom = 1f;
+    }
+
+    // Aim for a view that holds the given area, in meters
+    public void follow(Rectangle action) {
+        float width = action.width + 2 * MARGIN;
+        float height = action.y + action.height + MARGIN; // The view starts at the ground
+        targetZoom = MathUtils.clamp(Math.max(width / viewWidth, height / viewHeight), 1f, maxZoom);
+        targetX = action.x + action.width / 2;
+    }
+
+    // Jump to the target, e.g. when the level (re)starts
+    public void snap() {
+        x = targetX;
+        zoom = targetZoom;
+        apply();
+    }
+
+    public void update(float delta) {
+        float blend = 1f - (float) Math.exp(-EASING * delta); // Same feel at any frame rate
+        x += (targetX - x) * blend;
+        zoom += (targetZoom - zoom) * blend;
+        apply();
+    }
+
+    private void apply() {
+        float halfWidth = viewWidth * zoom / 2;
+        float halfHeight = viewHeight * zoom / 2;
+        x = MathUtils.clamp(x, halfWidth, Math.max(halfWidth, levelWidth - halfWidth));
+        camera.zoom = zoom;
+        camera.position.set(x, halfHeight, 0);
+        camera.update();
+        view.set(x - halfWidth, 0, halfWidth * 2, halfHeight * 2);
+    }
+
+    // Whether anything inside these bounds can be on screen
+    public boolean isVisible(Rectangle bounds) {
+        return view.overlaps(bounds);
+    }
+
+    public Rectangle getView() {
+        return view;
+    }
+}
@@ -13,47 +13,57 @@ import com.badlogic.gdx.utils.viewport.ScreenViewport;
 
 public class LevelCompleteScreen implements Screen {
     private final AngryBird game;
+    private final LevelScreen levelScreen;
     private final int level;
     private SpriteBatch spriteBatch;
     private Texture backgroundTexture;
     private Stage stage;
 
-    public LevelCompleteScreen(AngryBird game, int level) {
+    public LevelCompleteScreen(AngryBird game, LevelScreen levelScreen) {
         this.game = game;
-        this.level = level;
+        this.levelScreen = levelScreen;
+        this.level = levelScreen.getLevel();
 
         spriteBatch = new SpriteBatch();
-        backgroundTexture = new Texture("Level_complete.jpeg"); // Ensure this file exists
+        backgroundTexture = game.getAssets().acquire("Level_complete.jpeg", Texture.class);
         stage = new Stage(new ScreenViewport());
         Gdx.input.setInputProcessor(stage); // Handle input through the stage
 
         setupUI();
+
+        // "Next level" is the likely click, so have that level ready by then
+        int next = game.getRouter().next(level);
+        if (next != 0) game.getRouter().prefetch(next);
     }
 
     private void setupUI() {
-        Skin skin = new Skin(Gdx.files.internal("uiskin.json"));
+        Skin skin = game.getSkin();
 
         // Retry Button
-        Texture retryTexture = new Texture("retry_button.png");
+        Texture retryTexture = game.getAssets().acquire("retry_button.png", Texture.class);
         ImageButton retryButton = new ImageButton(new TextureRegionDrawable(retryTexture));
         retryButton.setSize(50, 50); // Small button size
         retryButton.setPosition(200, 100); // Adjust position
         retryButton.addListener(event -> {
             if (retryButton.isPressed()) {
-                game.setScreen(new Level1Screen(game)); // Restart the level
+                game.getRouter().cancelPrefetch();
+                levelScreen.restart(); // Restart the level
+                game.setScreen(levelScreen);
             }
             return true;
         });
 
         // Next Level Button
-        Texture nextLevelTexture = new Texture("Next_level.jpg");
+        Texture nextLevelTexture = game.getAssets().acquire("Next_level.jpg", Texture.class);
         ImageButton nextLevelButton = new ImageButton(new TextureRegionDrawable(nextLevelTexture));
         nextLevelButton.setSize(50, 50); // Small button size
         nextLevelButton.setPosition(400, 100); // Adjust position
         nextLevelButton.addListener(event -> {
             if (nextLevelButton.isPressed()) {
-                if (level < 3) {
-                    game.setScreen(new Level2Screen(game)); // Go to the next level
+                levelScreen.dispose(); // Leaving the level for good; its world goes back to the pool
+                int next = game.getRouter().next(level);
+                if (next != 0) {
+                    game.getRouter().open(next); // Go to the next level
                 } else {
                     game.setScreen(new HomeScreen(game, skin)); // Go back to the home screen
                 }
@@ -71,6 +81,8 @@ public class LevelCompleteScreen implements Screen {
         Gdx.gl.glClearColor(0.1f, 0.1f, 0.1f, 1); // Clear screen with black background
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
 
+        game.getRouter().update(); // Keep the prefetch loading
+
         spriteBatch.begin();
         spriteBatch.draw(backgroundTexture, 0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
         spriteBatch.end();
@@ -91,7 +103,7 @@ public class LevelCompleteScreen implements Screen {
 
     @Override
     public void hide() {
-        // No additional cleanup required
+        dispose(); // Every finished level gets a new one of these
     }
 
     @Override
@@ -107,7 +119,9 @@ public class LevelCompleteScreen implements Screen {
     @Override
     public void dispose() {
         spriteBatch.dispose();
-        backgroundTexture.dispose();
         stage.dispose();
+        game.getAssets().release("Level_complete.jpeg"); // The cache decides when the textures go
+        game.getAssets().release("retry_button.png");
+        game.getAssets().release("Next_level.jpg");
     }
 }
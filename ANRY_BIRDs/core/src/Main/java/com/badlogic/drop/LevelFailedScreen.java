@@ -15,7 +15,7 @@ import com.badlogic.gdx.scenes.scene2d.InputEvent;
 
 public class LevelFailedScreen implements Screen {
     private final AngryBird game;
-    private final int level;
+    private final LevelScreen levelScreen; // Kept so retry can restart it instead of building a new one
     private SpriteBatch spriteBatch;
     private Texture backgroundTexture;
 
@@ -23,12 +23,12 @@ public class LevelFailedScreen implements Screen {
     private Viewport viewport;
     private Skin skin;
 
-    public LevelFailedScreen(AngryBird game, int level, Skin skin) {
+    public LevelFailedScreen(AngryBird game, LevelScreen levelScreen, Skin skin) {
         this.game = game;
-        this.level = level;
+        this.levelScreen = levelScreen;
         this.skin = skin;
         this.spriteBatch = new SpriteBatch();
-        this.backgroundTexture = new Texture("level_failed.jpg"); // Ensure the texture file exists
+        this.backgroundTexture = game.getAssets().acquire("level_failed.jpg", Texture.class);
 
         // Set up Stage and Viewport
         viewport = new FitViewport(800, 600); // Adjust as per your screen dimensions
@@ -47,7 +47,8 @@ public class LevelFailedScreen implements Screen {
         retryButton.addListener(new ClickListener() {
             @Override
             public void clicked(InputEvent event, float x, float y) {
-                game.setScreen(new Level1Screen(game)); // Retry Level 1
+                levelScreen.restart(); // Retry the same level
+                game.setScreen(levelScreen);
             }
         });
 
@@ -58,6 +59,7 @@ public class LevelFailedScreen implements Screen {
         backButton.addListener(new ClickListener() {
             @Override
             public void clicked(InputEvent event, float x, float y) {
+                levelScreen.dispose(); // Leaving the level for good; its world goes back to the pool
                 game.setScreen(new SelectLevelScreen(game)); // Go back to level selection
             }
         });
@@ -95,6 +97,7 @@ public class LevelFailedScreen implements Screen {
     @Override
     public void hide() {
         Gdx.input.setInputProcessor(null);
+        dispose(); // Every failed attempt gets a new one of these
     }
 
     @Override
@@ -108,7 +111,7 @@ public class LevelFailedScreen implements Screen {
     @Override
     public void dispose() {
         spriteBatch.dispose();
-        backgroundTexture.dispose();
         stage.dispose();
+        game.getAssets().release("level_failed.jpg"); // The cache decides when the texture goes
     }
 }
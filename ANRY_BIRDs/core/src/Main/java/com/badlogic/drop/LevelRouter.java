@@ -0,0 +1,95 @@
+package com.badlogic.drop;
+
+import com.badlogic.drop.sim.LevelLayout;
+import com.badlogic.drop.sim.LevelLayouts;
+import com.badlogic.drop.sim.LevelSimulation;
+import com.badlogic.drop.sim.WorldPool;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncResult;
+
+/**
+ * Which level follows which, and how to get into one. While the player looks at a finished level, the
+ * next one is prefetched: its assets are queued and its world is built and settled on a background thread,
+ * so pressing "Next level" only has to switch screens. Only one level is prefetched at a time.
+ */
+public class LevelRouter implements Disposable {
+    private static final int SLICE_MILLIS = 4; // Asset loading per frame while a menu is up
+
+    private final AngryBird game;
+    private final AsyncExecutor executor = new AsyncExecutor(1, "LevelPrefetch"); // Box2D work off the render thread
+    private int prefetchedLevel = 0; // 0 while nothing is prefetched
+    private AsyncResult<LevelSimulation> prefetch;
+
+    public LevelRouter(AngryBird game) {
+        this.game = game;
+    }
+
+    // The level after this one, or 0 after the last
+    public int next(int level) {
+        return level < LevelLayouts.LEVEL_COUNT ? level + 1 : 0;
+    }
+
+    // Start getting a level ready in the background. Assets are only queued while the cache has room for them.
+    public void prefetch(int level) {
+        if (level == prefetchedLevel) return;
+        cancelPrefetch();
+
+        Assets assets = game.getAssets();
+        if (assets.getLoadedBytes() < assets.getBudget()) LevelScreen.queueAssets(assets);
+
+        final LevelLayout layout = LevelLayouts.forLevel(level);
+        final WorldPool pool = game.getWorldPool();
+        prefetch = executor.submit(() -> new LevelSimulation(layout, pool));
+        prefetchedLevel = level;
+    }
+
+    // The player went somewhere else. A world still being built is handed back to the pool once it's done,
+    // on the same background thread, so nobody waits for it.
+    public void cancelPrefetch() {
+        if (prefetch == null) return;
+        final AsyncResult<LevelSimulation> abandoned = prefetch;
+        executor.submit(() -> {
+            abandoned.get().dispose();
+            return null;
+        });
+        prefetch = null;
+        prefetchedLevel = 0;
+    }
+
+    // Give queued assets a slice of this frame; screens call it every frame while a prefetch may be running
+    public void update() {
+        if (prefetch != null) game.getAssets().update(SLICE_MILLIS);
+    }
+
+    // Show a level: straight away when it was prefetched and is ready, through the loading screen otherwise
+    public void open(int level) {
+        long requestedAt = System.nanoTime();
+        if (level == prefetchedLevel && prefetch.isDone() && game.getAssets().isFinished()) {
+            LevelScreen levelScreen = LevelScreen.forLevel(game, level, takePrefetched(level));
+            levelScreen.setRequestedAt(requestedAt);
+            game.setScreen(levelScreen);
+        } else {
+            game.setScreen(new LoadingScreen(game, level));
+        }
+    }
+
+    // The prefetched simulation of a level, waiting for it if it is still settling; null if that level
+    // isn't being prefetched. The caller owns the simulation.
+    LevelSimulation takePrefetched(int level) {
+        if (level != prefetchedLevel) {
+            cancelPrefetch();
+            return null;
+        }
+        LevelSimulation simulation = prefetch.get();
+        prefetch = null;
+        prefetchedLevel = 0;
+        return simulation;
+    }
+
+    @Override
+    public void dispose() {
+        cancelPrefetch();
+        executor.dispose(); // Waits for the background work, which may still be using the world pool
+    }
+}
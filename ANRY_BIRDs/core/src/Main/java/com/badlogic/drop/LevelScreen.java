@@ -0,0 +1,577 @@
+package com.badlogic.drop;
+
+import com.badlogic.drop.sim.EntityStore;
+import com.badlogic.drop.sim.EntityType;
+import com.badlogic.drop.sim.LaunchModel;
+import com.badlogic.drop.sim.LevelLayout;
+import com.badlogic.drop.sim.LevelLayouts;
+import com.badlogic.drop.sim.LevelSimulation;
+import com.badlogic.drop.sim.Material;
+import com.badlogic.drop.sim.PhysicsStepper;
+import com.badlogic.drop.sim.SimBird;
+import com.badlogic.drop.sim.SimBlock;
+import com.badlogic.drop.sim.SimPig;
+import com.badlogic.drop.sim.TrajectoryPreview;
+import com.badlogic.drop.sim.TrajectoryProbe;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.audio.Music;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.viewport.FitViewport;
+import com.badlogic.gdx.utils.viewport.Viewport;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/** Draws a level simulation and turns touch input into slingshot shots. */
+public abstract class LevelScreen implements Screen {
+    private static final String BACKGROUND = "game_background.png";
+    private static final String GROUND = "ground.png";
+    private static final String MUSIC = "angry_birds.mp3";
+    private static final float DOT_SIZE = 0.08f; // Trajectory dots, in meters
+    private static final float IMPACT_SIZE = 0.2f; // Marker where the trajectory first hits something
+    private static final float VIEW_WIDTH = 12f, VIEW_HEIGHT = 8f; // Meters on screen at zoom 1
+    private static final float GROUND_HEIGHT = 0.7f;
+    private static final long PROBE_BUDGET_NANOS = 500_000L; // Raycasting per frame, about 3% of a 60 fps frame
+
+    protected final AngryBird game;
+    private final int level;
+
+    private float worldWidth, worldHeight; // The whole level in meters
+    private float viewWidth, viewHeight; // Visible at zoom 1: the screen, or the level if it is smaller
+
+    private OrthographicCamera camera;
+    private LevelCamera levelCamera;
+    private Viewport viewport;
+    private SpriteBatch batch;
+
+    private Sprite background, slingshotSprite, groundSprite; // One tile each of background and ground
+
+    // Background and ground under the entities and the slingshot over them never move, so their vertices
+    // are uploaded once into a cache and each frame only draws it. In world units, so a resize leaves them be.
+    // Background and ground are tiled along the level, and only the tiles in view are drawn.
+    private SpriteCache staticLayers;
+    private int backgroundLayer, groundLayer, frontLayer;
+    private float backgroundTileWidth, groundTileWidth;
+    private int backgroundTiles, groundTiles;
+    private ArrayList<Bird> birds;
+    private ArrayList<Block> blocks;
+    private ArrayList<Pig> pigs;
+
+    // Sprite of each entity and the transform version it was last placed from, both indexed by store slot
+    private Sprite[] spritesBySlot;
+    private int[] syncedVersions;
+
+    private LevelSimulation simulation;
+    private PhysicsStepper stepper;
+    private Music bgm;
+
+    // How many sprites were refreshed vs. left alone because their body slept, logged once a second with the physics counters
+    private int spritesSynced, spritesSkipped;
+    private int spritesBatched; // Sprites sent through the batch this frame, 4 vertices each
+    private int spritesCulled; // Entity sprites outside the view this frame, not sent at all
+    private float syncLogTimer = 0f;
+
+    private long requestedAt = -1; // When the player asked for this level, for the time-to-interactive log
+
+    // Bird selection and trajectory
+    private Bird selectedBird;
+    private float launchPower;
+    private float launchAngle;
+
+    // Trajectory preview: cached paths, drawn as dots through the sprite batch in one go, up to the first
+    // thing they run into, which is tinted
+    private final TrajectoryPreview trajectory = new TrajectoryPreview();
+    private TrajectoryProbe probe;
+    private Texture dotTexture;
+    private int highlightedSlot = -1;
+
+    private final Rectangle action = new Rectangle(); // Where things move, for the level camera
+
+    protected LevelScreen(AngryBird game, int level) {
+        this(game, level, null);
+    }
+
+    // simulation: the level already built and settled, e.g. by a prefetch, or null to build it here
+    protected LevelScreen(AngryBird game, int level, LevelSimulation simulation) {
+        this.game = game;
+        this.level = level;
+        initialize(simulation);
+    }
+
+    // The screen of a level, by number, around a prebuilt simulation of it or null
+    public static LevelScreen forLevel(AngryBird game, int level, LevelSimulation simulation) {
+        switch (level) {
+            case 1:
+                return new Level1Screen(game, simulation);
+            case 2:
+                return new Level2Screen(game, simulation);
+            case 3:
+                return new Level3Screen(game, simulation);
+            case LevelLayouts.WIDE_LEVEL:
+                return new Level4Screen(game, simulation);
+            default:
+                throw new IllegalArgumentException("No such level: " + level);
+        }
+    }
+
+    // Start loading what every level screen draws and plays, so building one doesn't wait on disk or decoding
+    public static void queueAssets(Assets assets) {
+        assets.queue(BACKGROUND, Texture.class);
+        assets.queue(GROUND, Texture.class);
+        assets.queue(MUSIC, Music.class);
+    }
+
+    public void setRequestedAt(long requestedAt) {
+        this.requestedAt = requestedAt;
+    }
+
+    private void initialize(LevelSimulation prebuilt) {
+        LevelLayout layout = LevelLayouts.forLevel(level);
+        worldWidth = layout.getWorldWidth();
+        worldHeight = layout.getWorldHeight();
+        viewWidth = Math.min(worldWidth, VIEW_WIDTH);
+        viewHeight = Math.min(worldHeight, VIEW_HEIGHT);
+
+        // Camera and viewport setup
+        camera = new OrthographicCamera(viewWidth, viewHeight);
+        viewport = new FitViewport(viewWidth, viewHeight, camera); // Maintain aspect ratio
+        viewport.apply();
+        levelCamera = new LevelCamera(camera, worldWidth, worldHeight, viewWidth, viewHeight);
+
+        batch = new SpriteBatch();
+        dotTexture = createDotTexture();
+
+        simulation = prebuilt != null ? prebuilt : new LevelSimulation(layout, game.getWorldPool());
+        stepper = new PhysicsStepper(simulation);
+        probe = new TrajectoryProbe(simulation);
+
+        // Initialize assets
+        initializeBackground();
+        initializeGround();
+        initializeSlingshot();
+        initializeBirds();
+        initializeBlocks();
+        initializePigs();
+        initializeSpriteSync();
+        initializeStaticLayers();
+
+        // Background music
+        bgm = game.getAssets().acquire(MUSIC, Music.class);
+        bgm.setLooping(true);
+        bgm.setVolume(0.1f);
+        bgm.play();
+    }
+
+    // One screen's worth of background per tile, as tall as the level
+    private void initializeBackground() {
+        backgroundTileWidth = viewWidth * worldHeight / viewHeight;
+        backgroundTiles = (int) Math.ceil(worldWidth / backgroundTileWidth);
+        background = new Sprite(game.getAssets().acquire(BACKGROUND, Texture.class));
+        background.setSize(backgroundTileWidth, worldHeight);
+    }
+
+    private void initializeGround() {
+        groundTileWidth = viewWidth;
+        groundTiles = (int) Math.ceil(worldWidth / groundTileWidth);
+        groundSprite = new Sprite(game.getAssets().acquire(GROUND, Texture.class));
+        groundSprite.setSize(groundTileWidth, GROUND_HEIGHT);
+    }
+
+    private void initializeSlingshot() {
+        slingshotSprite = new Sprite(game.findRegion("slingshot"));
+        slingshotSprite.setSize(LaunchModel.SLINGSHOT_WIDTH, LaunchModel.SLINGSHOT_HEIGHT);
+        slingshotSprite.setPosition(LaunchModel.SLINGSHOT_X, LaunchModel.SLINGSHOT_Y); // Position near bottom-left
+    }
+
+    private void initializeStaticLayers() {
+        staticLayers = new SpriteCache(backgroundTiles + groundTiles + 1, false);
+        staticLayers.beginCache();
+        for (int i = 0; i < backgroundTiles; i++) {
+            background.setPosition(i * backgroundTileWidth, 0);
+            staticLayers.add(background);
+        }
+        backgroundLayer = staticLayers.endCache();
+        staticLayers.beginCache();
+        for (int i = 0; i < groundTiles; i++) {
+            groundSprite.setPosition(i * groundTileWidth, 0);
+            staticLayers.add(groundSprite);
+        }
+        groundLayer = staticLayers.endCache();
+        staticLayers.beginCache();
+        staticLayers.add(slingshotSprite);
+        frontLayer = staticLayers.endCache();
+    }
+
+    private void initializeBirds() {
+        birds = new ArrayList<>();
+        int index = 0;
+        for (SimBird state : simulation.getBirds()) {
+            Bird bird = new Bird(game.findRegion("bird" + (index % 3 + 1)), state);
+            bird.getBirdSprite().setSize(0.5f, 0.5f); // Proper scaling
+            birds.add(bird);
+            index++;
+        }
+    }
+
+    private void initializeBlocks() {
+        blocks = new ArrayList<>();
+        for (SimBlock state : simulation.getBlocks()) {
+            blocks.add(new Block(game.findRegion(blockRegionName(state.getMaterial())), state));
+        }
+    }
+
+    private static String blockRegionName(Material material) {
+        switch (material) {
+            case GLASS:
+                return "glass_block";
+            case WOOD:
+            default:
+                return "wood_block";
+        }
+    }
+
+    private void initializePigs() {
+        pigs = new ArrayList<>();
+        for (SimPig state : simulation.getPigs()) {
+            pigs.add(new Pig(game.findRegion("pig"), state));
+        }
+    }
+
+    private void initializeSpriteSync() {
+        int size = simulation.getStore().size();
+        spritesBySlot = new Sprite[size];
+        syncedVersions = new int[size];
+        Arrays.fill(syncedVersions, -1);
+        for (Bird bird : birds) spritesBySlot[bird.getState().getSlot()] = bird.getBirdSprite();
+        for (Block block : blocks) spritesBySlot[block.getState().getSlot()] = block.getBlockSprite();
+        for (Pig pig : pigs) spritesBySlot[pig.getState().getSlot()] = pig.getPigSprite();
+        syncSprites(1f);
+    }
+
+    @Override
+    public void render(float delta) {
+        handleInput(); // Handle input for bird dragging and launching
+        game.getDebugOverlay().handleKeys();
+
+        // Clear the screen
+        Gdx.gl.glClearColor(0.6f, 0.8f, 1f, 1);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+
+        // Once the last bird has landed there is nothing left to aim, so skip ahead to the final state
+        if (!stepper.isFastForwarding() && selectedBird == null && simulation.hasLastBirdLanded()) {
+            stepper.setFastForward(true);
+        }
+
+        // Step the physics simulation in fixed steps
+        stepper.advance(delta);
+
+        syncSprites(stepper.getAlpha());
+
+        // Update camera and batch
+        updateCamera(delta);
+        batch.setProjectionMatrix(camera.combined);
+
+        // Render game objects between the static layers
+        spritesBatched = spritesCulled = 0;
+        drawStaticLayer(backgroundLayer, backgroundTileWidth, backgroundTiles);
+        drawStaticLayer(groundLayer, groundTileWidth, groundTiles);
+        batch.begin();
+        drawBlocks();
+        drawPigs();
+        drawBirds();
+        batch.end();
+        drawStaticLayer(frontLayer, worldWidth, 1);
+
+        // Draw trajectory if a bird is selected
+        if (selectedBird != null) {
+            drawTrajectory();
+        } else {
+            highlight(-1);
+        }
+
+        logSyncStats(delta);
+        if (requestedAt >= 0) { // First frame the player can aim in
+            Gdx.app.log("LevelScreen", String.format("Level %d interactive %.0f ms after it was requested", level,
+                (System.nanoTime() - requestedAt) / 1e6));
+            requestedAt = -1;
+        }
+
+        // Check win/loss conditions
+        checkGameState();
+
+        game.getDebugOverlay().render(simulation, viewport, game.getSkin().getFont("default-font"));
+    }
+
+    // Place the sprites of live entities from the store's packed transforms, blending between the previous
+    // and current physics state so motion stays smooth at any frame rate. Sprites of entities that haven't
+    // moved since they were last placed (e.g. asleep) are left alone.
+    private void syncSprites(float alpha) {
+        EntityStore store = simulation.getStore();
+        for (int row = 0, n = store.getLiveCount(); row < n; row++) {
+            int slot = store.getSlot(row);
+            int version = store.getTransformVersion(row);
+            if (!store.isMoving(row) && syncedVersions[slot] == version) {
+                spritesSkipped++;
+                continue;
+            }
+
+            Sprite sprite = spritesBySlot[slot];
+            float x = store.getInterpolatedX(row, alpha);
+            float y = store.getInterpolatedY(row, alpha);
+            sprite.setPosition(x - sprite.getWidth() / 2, y - sprite.getHeight() / 2);
+            if (store.getType(row) != EntityType.PIG) { // Pig sprites stay upright
+                sprite.setRotation((float) Math.toDegrees(store.getInterpolatedAngle(row, alpha)));
+            }
+            syncedVersions[slot] = version;
+            spritesSynced++;
+        }
+    }
+
+    private void logSyncStats(float delta) {
+        syncLogTimer += delta;
+        if (syncLogTimer >= 1f) {
+            Gdx.app.debug("LevelScreen", "Sprites synced " + spritesSynced + ", skipped " + spritesSkipped
+                + "; body transforms read " + simulation.getTransformsRead() + ", skipped " + simulation.getTransformsSkipped()
+                + "; contact callbacks last step " + simulation.getCallbacksLastStep() + ", handled " + simulation.getHandledLastStep()
+                + "; sprite batch flushes last frame " + batch.renderCalls + ", vertices " + spritesBatched * 4
+                + ", culled " + spritesCulled + " (background, ground and slingshot come from the static cache)"
+                + "; trajectory paths computed " + trajectory.getComputed() + ", reused " + trajectory.getReused()
+                + ", rays cast " + probe.getRaysTotal()
+                + "; bodies created " + simulation.getPhysics().getBodiesCreated() + ", reused " + simulation.getPhysics().getBodiesReused()
+                + ", destroyed unclaimed " + simulation.getPhysics().getBodiesDestroyed() + ", parked " + simulation.getPhysics().getBodiesParked());
+            spritesSynced = spritesSkipped = 0;
+            syncLogTimer = 0f;
+        }
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    // Instant retry: put the simulation back to how the level started, keeping every texture, sprite and the music
+    public void restart() {
+        simulation.restart();
+        stepper.reset();
+        selectedBird = null;
+        highlight(-1);
+        levelCamera.home();
+        levelCamera.snap();
+    }
+
+    private void checkGameState() {
+        LevelSimulation.Outcome outcome = simulation.getOutcome();
+        if (outcome == LevelSimulation.Outcome.WON) {
+            game.setScreen(new LevelCompleteScreen(game, this)); // Transition to "Level Passed" screen
+        } else if (outcome == LevelSimulation.Outcome.LOST && selectedBird == null) {
+            // No birds left and no selected bird, level failed
+            game.setScreen(new LevelFailedScreen(game, this, game.getSkin())); // Transition to "Level Failed" screen
+        }
+    }
+
+    private void handleInput() {
+        if (Gdx.input.isTouched()) {
+            Vector3 touchPoint = camera.unproject(new Vector3(Gdx.input.getX(), Gdx.input.getY(), 0));
+
+            if (selectedBird == null) {
+                // Select the bird if clicked
+                for (Bird bird : birds) {
+                    if (!bird.isLaunched() && bird.getBoundingBox().contains(touchPoint.x, touchPoint.y)) {
+                        selectedBird = bird;
+                        // Automatically position the bird at a slightly higher point above the slingshot head
+                        selectedBird.moveToSlingshot(LaunchModel.HEAD_X, LaunchModel.HEAD_Y);
+                        break;
+                    }
+                }
+            } else {
+                // Dragging the bird within the defined range
+                float slingshotHeadX = LaunchModel.HEAD_X;
+                float slingshotHeadY = LaunchModel.HEAD_Y;
+
+                float dx = touchPoint.x - slingshotHeadX;
+                float dy = touchPoint.y - slingshotHeadY;
+                float distance = Vector2.dst(slingshotHeadX, slingshotHeadY, touchPoint.x, touchPoint.y);
+
+                if (distance <= LaunchModel.MAX_PULL) {
+                    selectedBird.updatePosition(touchPoint.x, touchPoint.y);
+                } else {
+                    // Limit dragging to the boundary of the allowed range
+                    float angle = (float) Math.atan2(dy, dx);
+                    float limitedX = slingshotHeadX + (float) Math.cos(angle) * LaunchModel.MAX_PULL;
+                    float limitedY = slingshotHeadY + (float) Math.sin(angle) * LaunchModel.MAX_PULL;
+                    selectedBird.updatePosition(limitedX, limitedY);
+                }
+
+                // Calculate reversed trajectory direction
+                launchAngle = (float) Math.toDegrees(Math.atan2(slingshotHeadY - selectedBird.getState().getY(),
+                    slingshotHeadX - selectedBird.getState().getX()));
+                launchPower = LaunchModel.powerForPull(distance);
+            }
+        } else if (selectedBird != null) {
+            // Launch the bird when released
+            Vector2 launchVelocity = LaunchModel.launchVelocity(launchPower, launchAngle, new Vector2());
+            selectedBird.getState().launch(launchVelocity.x, launchVelocity.y);
+            selectedBird = null; // Reset selected bird
+        }
+    }
+
+    private void drawTrajectory() {
+        if (selectedBird == null) return;
+
+        trajectory.update(launchAngle, launchPower, simulation.getWorld().getGravity());
+        probe.update(trajectory, PROBE_BUDGET_NANOS); // May take a few frames to find the impact in a crowded level
+        int count = probe.getClearPointCount(trajectory);
+        batch.begin();
+        batch.setColor(1, 0, 0, 1); // Red
+        for (int i = 0; i < count; i++) {
+            batch.draw(dotTexture, trajectory.getX(i) - DOT_SIZE / 2, trajectory.getY(i) - DOT_SIZE / 2, DOT_SIZE, DOT_SIZE);
+        }
+        if (probe.hasHit()) {
+            batch.setColor(1, 0.85f, 0, 1); // Yellow
+            batch.draw(dotTexture, probe.getHitX() - IMPACT_SIZE / 2, probe.getHitY() - IMPACT_SIZE / 2, IMPACT_SIZE, IMPACT_SIZE);
+            count++;
+        }
+        batch.setColor(1, 1, 1, 1);
+        batch.end();
+        spritesBatched += count;
+        highlight(probe.getHitSlot());
+    }
+
+    // Tint the block or pig the aimed shot would hit first; -1 for none
+    private void highlight(int slot) {
+        if (slot == highlightedSlot) return;
+        if (highlightedSlot >= 0) spritesBySlot[highlightedSlot].setColor(1, 1, 1, 1);
+        if (slot >= 0) spritesBySlot[slot].setColor(1, 0.6f, 0.6f, 1);
+        highlightedSlot = slot;
+    }
+
+    // A small white disc, tinted when drawn
+    private static Texture createDotTexture() {
+        Pixmap pixmap = new Pixmap(16, 16, Pixmap.Format.RGBA8888);
+        pixmap.setColor(1, 1, 1, 1);
+        pixmap.fillCircle(8, 8, 7);
+        Texture texture = new Texture(pixmap);
+        texture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+        pixmap.dispose();
+        return texture;
+    }
+
+    // Draw the tiles of a layer that are in view; tiles are tileWidth wide and laid out from the left edge.
+    // SpriteCache leaves blending to us, and SpriteBatch.end() turns it off.
+    private void drawStaticLayer(int layer, float tileWidth, int tiles) {
+        Rectangle view = levelCamera.getView();
+        int first = MathUtils.clamp((int) (view.x / tileWidth), 0, tiles - 1);
+        int last = MathUtils.clamp((int) ((view.x + view.width) / tileWidth), 0, tiles - 1);
+        Gdx.gl.glEnable(GL20.GL_BLEND);
+        Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        staticLayers.setProjectionMatrix(camera.combined);
+        staticLayers.begin();
+        staticLayers.draw(layer, first, last - first + 1);
+        staticLayers.end();
+    }
+
+    // Slingshot while aiming, otherwise the launched bird and every block and pig it set moving, if any
+    private void updateCamera(float delta) {
+        boolean any = false;
+        if (selectedBird == null) {
+            for (SimBird bird : simulation.getBirds()) {
+                if (!bird.isLaunched() || bird.isRemoved() || !bird.isAwake()) continue;
+                any = addToAction(bird.getX(), bird.getY(), any);
+            }
+            if (any) { // Until a bird flies, blocks settling into place don't move the camera
+                EntityStore store = simulation.getStore();
+                for (int row = 0, n = store.getLiveCount(); row < n; row++) {
+                    if (store.getType(row) == EntityType.BIRD || !store.isAwake(row)) continue;
+                    any = addToAction(store.getInterpolatedX(row, 1f), store.getInterpolatedY(row, 1f), any);
+                }
+            }
+        }
+        if (any) {
+            levelCamera.follow(action);
+        } else {
+            levelCamera.home();
+        }
+        levelCamera.update(delta);
+    }
+
+    private boolean addToAction(float x, float y, boolean any) {
+        if (any) {
+            action.merge(x, y);
+        } else {
+            action.set(x, y, 0, 0);
+        }
+        return true;
+    }
+
+    private void drawBlocks() {
+        for (Block block : blocks) {
+            if (block.getState().isRemoved()) continue;
+            drawIfVisible(block.getBlockSprite());
+        }
+    }
+
+    private void drawPigs() {
+        for (Pig pig : pigs) {
+            if (pig.getState().isRemoved()) continue;
+            drawIfVisible(pig.getPigSprite());
+        }
+    }
+
+    private void drawBirds() {
+        for (Bird bird : birds) {
+            if (bird.getState().isRemoved()) continue;
+            drawIfVisible(bird.getBirdSprite());
+        }
+    }
+
+    // Sprites outside the view aren't sent to the batch at all
+    private void drawIfVisible(Sprite sprite) {
+        if (!levelCamera.isVisible(sprite.getBoundingRectangle())) {
+            spritesCulled++;
+            return;
+        }
+        sprite.draw(batch);
+        spritesBatched++;
+    }
+
+    @Override
+    public void resize(int width, int height) {
+        viewport.update(width, height, false); // Adjust viewport on resize
+        levelCamera.snap(); // The level camera places the camera
+    }
+
+    @Override
+    public void dispose() {
+        dotTexture.dispose();
+        batch.dispose();
+        staticLayers.dispose();
+        simulation.dispose();
+        bgm.stop();
+        game.getAssets().release(MUSIC); // The next level usually wants the same music and textures
+        game.getAssets().release(BACKGROUND);
+        game.getAssets().release(GROUND); // Slingshot, bird, block and pig regions belong to the game's atlas
+    }
+
+    @Override
+    public void show() {
+        Gdx.input.setInputProcessor(null); // Coming back from a menu screen; this screen polls input itself
+    }
+
+    @Override
+    public void pause() {}
+
+    @Override
+    public void resume() {}
+
+    @Override
+    public void hide() {}
+}
@@ -0,0 +1,99 @@
+package com.badlogic.drop;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.utils.viewport.FitViewport;
+import com.badlogic.gdx.utils.viewport.Viewport;
+
+/**
+ * Shown while a level's textures and music load. Files are decoded on the asset loader's thread; this screen
+ * only gives the loader a short slice of each frame for the GL uploads, so it keeps drawing its progress bar.
+ * Once everything is in, the level screen is built and takes over.
+ */
+public class LoadingScreen implements Screen {
+    private static final int SLICE_MILLIS = 8; // Loader time per frame, about half a frame at 60 fps
+
+    private final AngryBird game;
+    private final int level;
+    private final long requestedAt = System.nanoTime();
+    private long assetsLoadedAt = -1;
+
+    private final SpriteBatch batch = new SpriteBatch();
+    private final ShapeRenderer shapeRenderer = new ShapeRenderer();
+    private final Viewport viewport = new FitViewport(800, 600);
+    private final BitmapFont font;
+
+    public LoadingScreen(AngryBird game, int level) {
+        this.game = game;
+        this.level = level;
+        this.font = game.getSkin().getFont("default-font");
+        LevelScreen.queueAssets(game.getAssets());
+    }
+
+    @Override
+    public void render(float delta) {
+        Assets assets = game.getAssets();
+
+        // Build the level one frame after the last asset came in, so the full bar gets drawn first
+        if (assetsLoadedAt >= 0) {
+            long buildStart = System.nanoTime();
+            LevelScreen levelScreen = LevelScreen.forLevel(game, level, game.getRouter().takePrefetched(level));
+            Gdx.app.log("LoadingScreen", String.format("Level %d: assets loaded in %.0f ms, level built in %.0f ms", level,
+                (assetsLoadedAt - requestedAt) / 1e6, (System.nanoTime() - buildStart) / 1e6));
+            levelScreen.setRequestedAt(requestedAt);
+            game.setScreen(levelScreen);
+            return;
+        }
+        if (assets.update(SLICE_MILLIS)) assetsLoadedAt = System.nanoTime();
+        float progress = assetsLoadedAt >= 0 ? 1f : assets.getProgress();
+
+        Gdx.gl.glClearColor(0, 0, 0, 1);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+        viewport.apply();
+
+        // Progress bar
+        shapeRenderer.setProjectionMatrix(viewport.getCamera().combined);
+        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
+        shapeRenderer.setColor(0.3f, 0.3f, 0.3f, 1);
+        shapeRenderer.rect(200, 280, 400, 20);
+        shapeRenderer.setColor(1, 0.8f, 0.2f, 1);
+        shapeRenderer.rect(200, 280, 400 * progress, 20);
+        shapeRenderer.end();
+
+        batch.setProjectionMatrix(viewport.getCamera().combined);
+        batch.begin();
+        font.draw(batch, "Loading level " + level + "... " + (int) (progress * 100) + "%", 200, 330);
+        batch.end();
+    }
+
+    @Override
+    public void resize(int width, int height) {
+        viewport.update(width, height, true);
+    }
+
+    @Override
+    public void show() {
+        Gdx.input.setInputProcessor(null);
+    }
+
+    @Override
+    public void hide() {
+        dispose(); // Every level load gets a new one of these
+    }
+
+    @Override
+    public void pause() {}
+
+    @Override
+    public void resume() {}
+
+    @Override
+    public void dispose() {
+        batch.dispose();
+        shapeRenderer.dispose(); // The font belongs to the shared skin
+    }
+}
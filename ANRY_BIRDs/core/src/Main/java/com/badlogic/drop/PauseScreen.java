@@ -30,20 +30,20 @@ public class PauseScreen implements Screen {
     private BitmapFont font;
     private StretchViewport viewport;
 
-    public PauseScreen(final AngryBird game, final Skin skin,int level) {
+    public PauseScreen(final AngryBird game, final Skin skin, final LevelScreen levelScreen) {
         this.game = game;
         this.batch = new SpriteBatch();
         this.viewport = new StretchViewport(800, 600);
         this.stage = new Stage(viewport);
         Gdx.input.setInputProcessor(stage);
 
-        pauseBackground = new Texture("Background_pause_screen.jpg");
-        pauseSymbol = new Texture("pause_symbol.png");
-        resumeIcon = new Texture("Resume.png");
-        homeIcon = new Texture("homebutton.png");
-        exitIcon = new Texture("Untitled-2.png");
+        pauseBackground = game.getAssets().acquire("Background_pause_screen.jpg", Texture.class);
+        pauseSymbol = game.getAssets().acquire("pause_symbol.png", Texture.class);
+        resumeIcon = game.getAssets().acquire("Resume.png", Texture.class);
+        homeIcon = game.getAssets().acquire("homebutton.png", Texture.class);
+        exitIcon = game.getAssets().acquire("Untitled-2.png", Texture.class);
 
-        font = new BitmapFont(Gdx.files.internal("default.fnt"));
+        font = game.getAssets().acquire("default.fnt", BitmapFont.class);
 
         // Button styles
         TextButton.TextButtonStyle resumeButtonStyle = new TextButton.TextButtonStyle();
@@ -68,12 +68,7 @@ public class PauseScreen implements Screen {
         resumeButton.addListener(new ClickListener() {
             @Override
             public void clicked(InputEvent event, float x, float y) {
-                if(level==1)
-                    game.setScreen(new Level1Screen(game));
-                else if(level==2)
-                    game.setScreen(new Level2Screen(game));
-                else if(level==3)
-                    game.setScreen(new Level3Screen(game));
+                game.setScreen(levelScreen); // Carry on where the level was left
             }
         });
 
@@ -83,6 +78,7 @@ public class PauseScreen implements Screen {
         homeButton.addListener(new ClickListener() {
             @Override
             public void clicked(InputEvent event, float x, float y) {
+                levelScreen.dispose(); // Leaving the level for good; its world goes back to the pool
                 game.setScreen(new HomeScreen(game, skin));
             }
         });
@@ -129,7 +125,9 @@ public class PauseScreen implements Screen {
     public void show() {}
 
     @Override
-    public void hide() {}
+    public void hide() {
+        dispose(); // Pausing again makes a new pause screen
+    }
 
     @Override
     public void pause() {}
@@ -140,12 +138,12 @@ public class PauseScreen implements Screen {
     @Override
     public void dispose() {
         batch.dispose();
-        pauseBackground.dispose();
         stage.dispose();
-        pauseSymbol.dispose();
-        resumeIcon.dispose();
-        homeIcon.dispose();
-        exitIcon.dispose();
-        font.dispose();
+        game.getAssets().release("Background_pause_screen.jpg"); // The cache decides when the textures and font go
+        game.getAssets().release("pause_symbol.png");
+        game.getAssets().release("Resume.png");
+        game.getAssets().release("homebutton.png");
+        game.getAssets().release("Untitled-2.png");
+        game.getAssets().release("default.fnt");
     }
 }
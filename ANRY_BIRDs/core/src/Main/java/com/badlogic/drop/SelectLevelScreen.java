@@ -4,7 +4,7 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.scenes.scene2d.Stage;
@@ -17,7 +17,8 @@ import com.badlogic.gdx.utils.viewport.Viewport;
 
 public class SelectLevelScreen implements Screen {
     private final AngryBird game;
-    private SpriteBatch spriteBatch;
+    private SpriteCache backgroundCache; // In viewport units, so built once and kept through resizes
+    private int backgroundLayer;
     private Texture backgroundTexture;
     private Stage stage;
     private BitmapFont font;
@@ -29,8 +30,8 @@ public class SelectLevelScreen implements Screen {
     public SelectLevelScreen(final AngryBird game) {
         this.game = game;
 
-        // Initialize SpriteBatch and Viewport
-        spriteBatch = new SpriteBatch();
+        // Initialize background cache and Viewport
+        backgroundCache = new SpriteCache(1, false);
         viewport = new StretchViewport(800, 600); // Virtual resolution for consistency
         stage = new Stage(viewport);
 
@@ -38,11 +39,15 @@ public class SelectLevelScreen implements Screen {
         Gdx.input.setInputProcessor(stage);
 
         // Load assets
-        backgroundTexture = new Texture("Levelback.png");
-        level1ButtonIcon = new Texture("level1.png");
-        level2ButtonIcon = new Texture("level2.png");
-        level3ButtonIcon = new Texture("level3.png");
-        font = new BitmapFont(Gdx.files.internal("default.fnt"));
+        backgroundTexture = game.getAssets().acquire("Levelback.png", Texture.class);
+        level1ButtonIcon = game.getAssets().acquire("level1.png", Texture.class);
+        level2ButtonIcon = game.getAssets().acquire("level2.png", Texture.class);
+        level3ButtonIcon = game.getAssets().acquire("level3.png", Texture.class);
+        font = game.getAssets().acquire("default.fnt", BitmapFont.class);
+
+        backgroundCache.beginCache();
+        backgroundCache.add(new TextureRegion(backgroundTexture), 0, 0, viewport.getWorldWidth(), viewport.getWorldHeight());
+        backgroundLayer = backgroundCache.endCache();
 
         // Dynamically calculate button positions based on the viewport
         createLevelButton(level1ButtonIcon, 1, 0.25f); // 25% from the left
@@ -68,17 +73,7 @@ public class SelectLevelScreen implements Screen {
         levelButton.addListener(new ClickListener() {
             @Override
             public void clicked(InputEvent event, float x, float y) {
-                switch (level) {
-                    case 1:
-                        game.setScreen(new Level1Screen(game));
-                        break;
-                    case 2:
-                        game.setScreen(new Level2Screen(game));
-                        break;
-                    case 3:
-                        game.setScreen(new Level3Screen(game));
-                        break;
-                }
+                game.getRouter().open(level);
             }
         });
 
@@ -95,10 +90,10 @@ public class SelectLevelScreen implements Screen {
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
 
         // Draw background
-        spriteBatch.setProjectionMatrix(viewport.getCamera().combined); // Sync with the viewport camera
-        spriteBatch.begin();
-        spriteBatch.draw(backgroundTexture, 0, 0, viewport.getWorldWidth(), viewport.getWorldHeight());
-        spriteBatch.end();
+        backgroundCache.setProjectionMatrix(viewport.getCamera().combined); // Sync with the viewport camera
+        backgroundCache.begin();
+        backgroundCache.draw(backgroundLayer);
+        backgroundCache.end();
 
         // Draw stage elements (buttons, etc.)
         stage.act();
@@ -116,7 +111,9 @@ public class SelectLevelScreen implements Screen {
     public void show() { }
 
     @Override
-    public void hide() { }
+    public void hide() {
+        dispose(); // A new selection screen is made every time we come back here
+    }
 
     @Override
     public void pause() { }
@@ -126,12 +123,12 @@ public class SelectLevelScreen implements Screen {
 
     @Override
     public void dispose() {
-        spriteBatch.dispose();
-        backgroundTexture.dispose();
-        level1ButtonIcon.dispose();
-        level2ButtonIcon.dispose();
-        level3ButtonIcon.dispose();
-        font.dispose();
+        backgroundCache.dispose();
+        game.getAssets().release("Levelback.png"); // The cache decides when the textures and font go
+        game.getAssets().release("level1.png");
+        game.getAssets().release("level2.png");
+        game.getAssets().release("level3.png");
+        game.getAssets().release("default.fnt");
         stage.dispose();
     }
 }
@@ -0,0 +1,92 @@
+package com.badlogic.drop.headless;
+
+import com.badlogic.drop.sim.LevelLayout;
+import com.badlogic.drop.sim.LevelSimulation;
+import com.badlogic.drop.sim.Material;
+import com.badlogic.drop.sim.SimBird;
+import com.badlogic.drop.sim.SimBlock;
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+
+/**
+ * Fires fast birds straight at a thin wall and checks that every one of them hits it instead of tunneling
+ * through. Exits with status 1 if any shot misses, so it can run as a build check.
+ */
+public class CcdRegression extends ApplicationAdapter {
+    private static final float WALL_X = 6f;
+    private static final float WALL_THICKNESS = 0.2f; // Same as the level pillars
+    private static final float WALL_HEIGHT = 3f;
+    private static final int WALL_HEALTH = 1000; // Must survive every hit so damage tells us it was touched
+    private static final int MAX_STEPS = 120; // Every shot reaches the wall well within this
+
+    private static final float[] ANGLES = {-5, 0, 5, 10};
+    private static final float[] SPEEDS = {20, 30, 45, 60, 80, 100};
+
+    private final boolean continuousCollision;
+
+    public CcdRegression(boolean continuousCollision) {
+        this.continuousCollision = continuousCollision;
+    }
+
+    public static CcdRegression fromArgs(String[] args) {
+        boolean continuousCollision = true;
+        for (String arg : args) {
+            if (arg.equals("--no-ccd")) {
+                continuousCollision = false; // Shows what the suite catches
+            } else {
+                throw new IllegalArgumentException("Unknown option: " + arg);
+            }
+        }
+        return new CcdRegression(continuousCollision);
+    }
+
+    private static LevelLayout wallLayout() {
+        return new LevelLayout(0, 12f, 8f, LevelLayout.WinCondition.BLOCKS_TOPPLED)
+            .addBird(1.2f, 0.6f)
+            .addBlock(Material.GLASS, WALL_X, 0.7f + WALL_HEIGHT / 2, WALL_THICKNESS, WALL_HEIGHT, WALL_HEALTH);
+    }
+
+    @Override
+    public void create() {
+        int misses = run();
+        Gdx.app.exit();
+        if (misses > 0) {
+            System.exit(1);
+        }
+    }
+
+    // Returns how many shots went through the wall without touching it
+    public int run() {
+        LevelSimulation simulation = new LevelSimulation(wallLayout());
+        simulation.setContinuousCollision(continuousCollision);
+        simulation.setAdaptiveSubstepping(continuousCollision);
+
+        int misses = 0;
+        for (float angle : ANGLES) {
+            for (float speed : SPEEDS) {
+                simulation.reset();
+                SimBlock wall = simulation.getBlocks().get(0);
+                SimBird bird = simulation.launchNextBird(angle, speed);
+
+                // A hit must land before the bird shows up behind the wall; bouncing back off the far
+                // boundary into it doesn't count
+                boolean hit = false;
+                for (int i = 0; i < MAX_STEPS && !hit; i++) {
+                    simulation.step();
+                    hit = wall.getHealth() < WALL_HEALTH;
+                    if (!hit && bird.getX() > WALL_X + WALL_THICKNESS / 2) break;
+                }
+                if (!hit) {
+                    misses++;
+                    System.out.printf("MISS  %5.1f deg at %5.1f m/s went through the wall%n", angle, speed);
+                }
+            }
+        }
+
+        int shots = ANGLES.length * SPEEDS.length;
+        System.out.printf("%d/%d fast shots hit the wall (CCD %s)%n", shots - misses, shots,
+            continuousCollision ? "on" : "off");
+        simulation.dispose();
+        return misses;
+    }
+}
@@ -0,0 +1,40 @@
+package com.badlogic.drop.headless;
+
+import com.badlogic.gdx.ApplicationListener;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import java.util.Arrays;
+
+/**
+ * Runs a level without a window or GPU, e.g.
+ * {@code headless --level 2 --shots 40:10,35:9.5 --timeout 10}.
+ * Shots are {@code angle:power} pairs using the same launch model as the slingshot.
+ * With {@code --evaluate} it scores a whole grid of shots instead, see {@link ShotSweep}, and
+ * {@code --regression} checks that fast birds can't tunnel through blocks, see {@link CcdRegression}.
+ */
+public class HeadlessLauncher {
+    public static void main(String[] args) {
+        ApplicationListener runner;
+        try {
+            if (args.length > 0 && args[0].equals("--evaluate")) {
+                runner = ShotSweep.fromArgs(Arrays.copyOfRange(args, 1, args.length));
+            } else if (args.length > 0 && args[0].equals("--regression")) {
+                runner = CcdRegression.fromArgs(Arrays.copyOfRange(args, 1, args.length));
+            } else {
+                runner = LevelRunner.fromArgs(args);
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println("Usage: headless [--level N] [--shots angle:power,...] [--timeout seconds]");
+            System.err.println("       headless --evaluate [--level N] [--angles from:to:step] [--powers from:to:step]"
+                + " [--threads N] [--timeout seconds]");
+            System.err.println("       headless --regression [--no-ccd]");
+            System.exit(2);
+            return;
+        }
+
+        HeadlessApplicationConfiguration configuration = new HeadlessApplicationConfiguration();
+        configuration.updatesPerSecond = -1; // Nothing to render, the runner does all of its work in create()
+        new HeadlessApplication(runner, configuration);
+    }
+}
@@ -0,0 +1,130 @@
+package com.badlogic.drop.headless;
+
+import com.badlogic.drop.sim.LevelLayouts;
+import com.badlogic.drop.sim.LevelSimulation;
+import com.badlogic.drop.sim.PhysicsStepper;
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+
+/** Plays one level with scripted shots as fast as the CPU allows and reports the outcome. */
+public class LevelRunner extends ApplicationAdapter {
+    private static final float DEFAULT_TIMEOUT = 30f; // Simulated seconds a shot may take to settle before we give up
+
+    private final int level;
+    private final float[] angles;
+    private final float[] powers;
+    private final float timeout;
+
+    public LevelRunner(int level, float[] angles, float[] powers, float timeout) {
+        this.level = level;
+        this.angles = angles;
+        this.powers = powers;
+        this.timeout = timeout;
+    }
+
+    public static LevelRunner fromArgs(String[] args) {
+        int level = 1;
+        String shots = "45:10,40:10,35:10";
+        float timeout = DEFAULT_TIMEOUT;
+
+        for (int i = 0; i < args.length; i++) {
+            String value = i + 1 < args.length ? args[i + 1] : null;
+            switch (args[i]) {
+                case "--level":
+                    level = Integer.parseInt(requireValue(args[i], value));
+                    i++;
+                    break;
+                case "--shots":
+                    shots = requireValue(args[i], value);
+                    i++;
+                    break;
+                case "--timeout":
+                    timeout = Float.parseFloat(requireValue(args[i], value));
+                    i++;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+        if (!LevelLayouts.exists(level)) {
+            throw new IllegalArgumentException("No such level: " + level);
+        }
+
+        String[] parts = shots.split(",");
+        float[] angles = new float[parts.length];
+        float[] powers = new float[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            String[] shot = parts[i].trim().split(":");
+            if (shot.length != 2) {
+                throw new IllegalArgumentException("Shots must look like angle:power, got " + parts[i]);
+            }
+            angles[i] = Float.parseFloat(shot[0]);
+            powers[i] = Float.parseFloat(shot[1]);
+        }
+        return new LevelRunner(level, angles, powers, timeout);
+    }
+
+    static String requireValue(String option, String value) {
+        if (value == null) {
+            throw new IllegalArgumentException(option + " needs a value");
+        }
+        return value;
+    }
+
+    @Override
+    public void create() {
+        run();
+        Gdx.app.exit();
+    }
+
+    public LevelSimulation.Outcome run() {
+        LevelSimulation simulation = new LevelSimulation(LevelLayouts.forLevel(level));
+        int pigCount = simulation.getPigs().size();
+        int blockCount = simulation.getBlocks().size();
+        int maxSteps = (int) (timeout / PhysicsStepper.TIMESTEP);
+
+        long start = System.nanoTime();
+        boolean timedOut = false;
+        for (int shot = 0; shot < angles.length; shot++) {
+            if (simulation.getOutcome() != LevelSimulation.Outcome.IN_PROGRESS) break;
+            if (simulation.launchNextBird(angles[shot], powers[shot]) == null) break; // Out of birds
+
+            // Let the shot play out until the scene settles; the timeout only guards against a scene that never does
+            int steps = 0;
+            while (!simulation.isSettled() && simulation.getOutcome() == LevelSimulation.Outcome.IN_PROGRESS) {
+                if (steps++ == maxSteps) {
+                    timedOut = true;
+                    break;
+                }
+                simulation.step();
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+
+        LevelSimulation.Outcome outcome = simulation.getOutcome();
+        long steps = simulation.getStepCount();
+        double seconds = elapsed / 1e9;
+        if (timedOut) {
+            System.out.printf("A shot was still moving after %.0f simulated seconds%n", timeout);
+        }
+        System.out.printf("Level %d: %s, pigs killed %d/%d, blocks destroyed %d/%d%n", level, outcome,
+            simulation.getPigsKilled(), pigCount, simulation.getBlocksDestroyed(), blockCount);
+        System.out.printf("%d steps (%.1f s simulated) in %.1f ms, %.0f steps/sec%n", steps,
+            steps * PhysicsStepper.TIMESTEP, seconds * 1000, steps / Math.max(seconds, 1e-9));
+        System.out.printf("Body transforms read %d, skipped while asleep %d%n", simulation.getTransformsRead(),
+            simulation.getTransformsSkipped());
+        System.out.printf("Contact callbacks into Java %d (%.1f per step), pairs with a damage rule %d%n",
+            simulation.getCallbacksTotal(), simulation.getCallbacksTotal() / (double) Math.max(steps, 1),
+            simulation.getHandledTotal());
+        System.out.printf("World mutations %d, applied in %.3f ms%n", simulation.getCommandsFlushed(),
+            simulation.getMutationNanos() / 1e6);
+
+        // What a retry costs: restoring the snapshot taken when the level was built
+        long restartStart = System.nanoTime();
+        simulation.restart();
+        System.out.printf("Restart to the initial snapshot took %.3f ms%n", (System.nanoTime() - restartStart) / 1e6);
+
+        simulation.dispose();
+        return outcome;
+    }
+}
@@ -0,0 +1,149 @@
+package com.badlogic.drop.headless;
+
+import com.badlogic.drop.sim.LevelLayout;
+import com.badlogic.drop.sim.LevelLayouts;
+import com.badlogic.drop.sim.PhysicsStepper;
+import com.badlogic.drop.sim.ShotEvaluator;
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+
+/** Scores every shot on an angle/power grid for one level and reports the best ones and the throughput. */
+public class ShotSweep extends ApplicationAdapter {
+    private static final float DEFAULT_TIMEOUT = 10f; // Simulated seconds before a shot counts as settled
+    private static final int TOP_SHOTS = 5;
+
+    private final int level;
+    private final float[] angleRange;
+    private final float[] powerRange;
+    private final int threads;
+    private final float timeout;
+
+    public ShotSweep(int level, float[] angleRange, float[] powerRange, int threads, float timeout) {
+        this.level = level;
+        this.angleRange = angleRange;
+        this.powerRange = powerRange;
+        this.threads = threads;
+        this.timeout = timeout;
+    }
+
+    public static ShotSweep fromArgs(String[] args) {
+        int level = 1;
+        float[] angles = {10, 80, 1};
+        float[] powers = {5, 10, 0.25f};
+        int threads = Runtime.getRuntime().availableProcessors();
+        float timeout = DEFAULT_TIMEOUT;
+
+        for (int i = 0; i < args.length; i++) {
+            String value = i + 1 < args.length ? args[i + 1] : null;
+            switch (args[i]) {
+                case "--level":
+                    level = Integer.parseInt(LevelRunner.requireValue(args[i], value));
+                    i++;
+                    break;
+                case "--angles":
+                    angles = parseRange(LevelRunner.requireValue(args[i], value));
+                    i++;
+                    break;
+                case "--powers":
+                    powers = parseRange(LevelRunner.requireValue(args[i], value));
+                    i++;
+                    break;
+                case "--threads":
+                    threads = Integer.parseInt(LevelRunner.requireValue(args[i], value));
+                    i++;
+                    break;
+                case "--timeout":
+                    timeout = Float.parseFloat(LevelRunner.requireValue(args[i], value));
+                    i++;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+        if (!LevelLayouts.exists(level)) {
+            throw new IllegalArgumentException("No such level: " + level);
+        }
+        if (threads < 1) {
+            throw new IllegalArgumentException("Need at least one thread");
+        }
+        return new ShotSweep(level, angles, powers, threads, timeout);
+    }
+
+    // "from:to:step", both ends included
+    private static float[] parseRange(String text) {
+        String[] parts = text.split(":");
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("Ranges must look like from:to:step, got " + text);
+        }
+        float[] range = {Float.parseFloat(parts[0]), Float.parseFloat(parts[1]), Float.parseFloat(parts[2])};
+        if (range[2] <= 0 || range[1] < range[0]) {
+            throw new IllegalArgumentException("Bad range: " + text);
+        }
+        return range;
+    }
+
+    private static int countOf(float[] range) {
+        return (int) Math.floor((range[1] - range[0]) / range[2] + 1e-4) + 1;
+    }
+
+    @Override
+    public void create() {
+        run();
+        Gdx.app.exit();
+    }
+
+    public void run() {
+        int angleCount = countOf(angleRange);
+        int powerCount = countOf(powerRange);
+        int count = angleCount * powerCount;
+        float[] angles = new float[count];
+        float[] powers = new float[count];
+        for (int a = 0; a < angleCount; a++) {
+            for (int p = 0; p < powerCount; p++) {
+                angles[a * powerCount + p] = angleRange[0] + a * angleRange[2];
+                powers[a * powerCount + p] = powerRange[0] + p * powerRange[2];
+            }
+        }
+
+        LevelLayout layout = LevelLayouts.forLevel(level);
+        ShotEvaluator evaluator = new ShotEvaluator(layout, threads, (int) (timeout / PhysicsStepper.TIMESTEP));
+
+        long start = System.nanoTime();
+        int[] results = evaluator.evaluate(angles, powers);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        evaluator.dispose();
+
+        long steps = 0;
+        for (int i = 0; i < count; i++) {
+            steps += results[i * ShotEvaluator.RESULT_STRIDE + ShotEvaluator.STEPS_TO_REST];
+        }
+        System.out.printf("Level %d: %d shots on %d threads in %.2f s, %.0f shots/sec (%.0f steps/sec)%n", level,
+            count, threads, seconds, count / Math.max(seconds, 1e-9), steps / Math.max(seconds, 1e-9));
+
+        // Best first: most pigs, then most blocks, then the quickest to settle
+        boolean[] picked = new boolean[count];
+        for (int rank = 0; rank < Math.min(TOP_SHOTS, count); rank++) {
+            int best = -1;
+            for (int i = 0; i < count; i++) {
+                if (!picked[i] && (best < 0 || isBetter(results, i, best))) best = i;
+            }
+            picked[best] = true;
+            int offset = best * ShotEvaluator.RESULT_STRIDE;
+            System.out.printf("  %5.1f deg, power %5.2f: pigs %d/%d, blocks %d/%d, rest after %d steps%n",
+                angles[best], powers[best], results[offset + ShotEvaluator.PIGS_KILLED], layout.getPigs().size(),
+                results[offset + ShotEvaluator.BLOCKS_DESTROYED], layout.getBlocks().size(),
+                results[offset + ShotEvaluator.STEPS_TO_REST]);
+        }
+    }
+
+    private static boolean isBetter(int[] results, int a, int b) {
+        int offsetA = a * ShotEvaluator.RESULT_STRIDE;
+        int offsetB = b * ShotEvaluator.RESULT_STRIDE;
+        for (int field : new int[] {ShotEvaluator.PIGS_KILLED, ShotEvaluator.BLOCKS_DESTROYED}) {
+            if (results[offsetA + field] != results[offsetB + field]) {
+                return results[offsetA + field] > results[offsetB + field];
+            }
+        }
+        return results[offsetA + ShotEvaluator.STEPS_TO_REST] < results[offsetB + ShotEvaluator.STEPS_TO_REST];
+    }
+}
@@ -9,11 +9,17 @@ import com.badlogic.drop.AngryBird;
 public class Lwjgl3Launcher {
     public static void main(String[] args) {
         if (StartupHelper.startNewJvmIfRequired()) return; // This handles macOS support and helps on Windows.
-        createApplication();
+        createApplication(args);
     }
 
-    private static Lwjgl3Application createApplication() {
-        return new Lwjgl3Application(new AngryBird(), getDefaultConfiguration());
+    private static Lwjgl3Application createApplication(String[] args) {
+        String debugLayers = null;
+        int startLevel = 0;
+        for (String arg : args) {
+            if (arg.startsWith("--debug-overlay=")) debugLayers = arg.substring("--debug-overlay=".length());
+            if (arg.startsWith("--level=")) startLevel = Integer.parseInt(arg.substring("--level=".length()));
+        }
+        return new Lwjgl3Application(new AngryBird(debugLayers, startLevel), getDefaultConfiguration());
     }
 
     private static Lwjgl3ApplicationConfiguration getDefaultConfiguration() {